@@ -39,6 +39,42 @@ tasks {
             events("passed", "skipped", "failed")
         }
     }
+
+    // Minestom reads its flags once per JVM, so the other broadcast mode needs a forked test JVM
+    val testIndividualBroadcast by registering(Test::class) {
+        description = "Runs the broadcast tests with grouped packets disabled."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform()
+        jvmArgs("-Dminestom.inside-test=true", "-Dminestom.grouped-packet=false")
+        filter {
+            includeTestsMatching("net.minestom.testing.Broadcast*")
+        }
+        testLogging {
+            events("passed", "skipped", "failed")
+        }
+    }
+
+    // Covers the scenario matrix cells which need another view distance and other dispatcher threads
+    val testScenarioFork by registering(Test::class) {
+        description = "Runs the scenario matrix tests with a view distance of 4 and 2 dispatcher threads."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform()
+        jvmArgs("-Dminestom.inside-test=true", "-Dminestom.chunk-view-distance=4", "-Dminestom.dispatcher-threads=2")
+        filter {
+            includeTestsMatching("net.minestom.testing.ScenarioMatrix*")
+        }
+        testLogging {
+            events("passed", "skipped", "failed")
+        }
+    }
+
+    check {
+        dependsOn(testIndividualBroadcast, testScenarioFork)
+    }
 }
 
 publishing {
@@ -1,8 +1,11 @@
 module cyano.testing {
     requires transitive net.minestom.server;
     requires org.junit.jupiter.api; // Users can bring their own version.
+    requires static org.junit.jupiter.params; // Only needed for scenario matrices.
+    requires jdk.jfr;
 
     exports net.minestom.testing;
+    exports net.minestom.testing.extension;
     exports net.minestom.testing.util;
 
     opens net.minestom.testing to org.junit.platform.commons;
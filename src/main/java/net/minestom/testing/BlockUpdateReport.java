@@ -0,0 +1,42 @@
+package net.minestom.testing;
+
+/**
+ * The cost of a block update workload and how its changes reached a group of viewers, measured by
+ * {@link Env#measureBlockUpdates(net.minestom.server.instance.Instance, java.util.Collection, BlockWorkload, int, boolean)}.
+ *
+ * @param viewers            the amount of measured viewers
+ * @param ticks              the amount of measured ticks
+ * @param changes            the amount of block changes applied by the workload
+ * @param applyTime          the duration of applying the changes of each tick
+ * @param tickTime           the duration of the measured ticks
+ * @param singleBlockPackets the amount of block change packets received by all viewers
+ * @param multiBlockPackets  the amount of multi block change packets received by all viewers
+ * @param multiBlockChanges  the amount of block changes contained in the multi block change packets
+ * @param chunkResends       the amount of chunk data packets received by all viewers
+ * @since 0.8.0
+ */
+public record BlockUpdateReport(int viewers, int ticks, long changes, TimingStats applyTime, TimingStats tickTime,
+                                long singleBlockPackets, long multiBlockPackets, long multiBlockChanges,
+                                long chunkResends) {
+
+    /**
+     * Gets the amount of packets all viewers received for the block changes.
+     *
+     * @return the amount of block change, multi block change and chunk data packets
+     */
+    public long packets() {
+        return singleBlockPackets + multiBlockPackets + chunkResends;
+    }
+
+    /**
+     * Gets the average amount of block changes carried by a single packet, to a single viewer.
+     * Chunk data packets are counted as packets without changes.
+     *
+     * @return the changes per packet
+     */
+    public double changesPerPacket() {
+        final long packets = packets();
+        if (packets == 0) return 0;
+        return (double) (singleBlockPackets + multiBlockChanges) / packets;
+    }
+}
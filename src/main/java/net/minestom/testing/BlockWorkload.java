@@ -0,0 +1,126 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Describes the block changes applied by {@link Env#measureBlockUpdates(net.minestom.server.instance.Instance,
+ * java.util.Collection, BlockWorkload, int, boolean)}, one tick at a time.
+ * <p>
+ * All randomized workloads are seeded per tick, so that a test always changes the same blocks in the same ticks.
+ *
+ * @since 0.8.0
+ */
+@FunctionalInterface
+public interface BlockWorkload {
+
+    /**
+     * Applies the block changes of a tick.
+     *
+     * @param setter the target of the changes
+     * @param tick   the index of the upcoming tick
+     */
+    void apply(Block.Setter setter, int tick);
+
+    /**
+     * Changes blocks at positions spread uniformly over the box between two corners.
+     *
+     * @param from           the first corner
+     * @param to             the second corner
+     * @param changesPerTick the amount of blocks changed in each tick
+     * @param palette        the blocks to choose from
+     * @param seed           the seed of the random changes
+     * @return the workload
+     */
+    static BlockWorkload random(Point from, Point to, int changesPerTick, List<Block> palette, long seed) {
+        final List<Block> blocks = List.copyOf(palette);
+        return (setter, tick) -> {
+            final Random random = random(seed, tick);
+            for (int i = 0; i < changesPerTick; i++) {
+                setter.setBlock(between(random, from.blockX(), to.blockX()), between(random, from.blockY(), to.blockY()),
+                        between(random, from.blockZ(), to.blockZ()), pick(random, blocks));
+            }
+        };
+    }
+
+    /**
+     * Changes blocks around a single center per tick, like a redstone contraption or a player building.
+     * The center is spread uniformly over the box between two corners, the changed blocks are normally
+     * distributed around it.
+     * <p>
+     * The changed blocks are not clamped to the box, so a center near its edge spills blocks outside of it.
+     * Every block within a few {@code radius} of the box must lie in a loaded chunk, since an instance
+     * fails to change blocks in unloaded chunks.
+     *
+     * @param from           the first corner
+     * @param to             the second corner
+     * @param changesPerTick the amount of blocks changed in each tick
+     * @param radius         the standard deviation of the distance to the center
+     * @param palette        the blocks to choose from
+     * @param seed           the seed of the random changes
+     * @return the workload
+     */
+    static BlockWorkload clustered(Point from, Point to, int changesPerTick, double radius, List<Block> palette, long seed) {
+        final List<Block> blocks = List.copyOf(palette);
+        return (setter, tick) -> {
+            final Random random = random(seed, tick);
+            final int x = between(random, from.blockX(), to.blockX());
+            final int y = between(random, from.blockY(), to.blockY());
+            final int z = between(random, from.blockZ(), to.blockZ());
+            for (int i = 0; i < changesPerTick; i++) {
+                setter.setBlock(x + (int) Math.round(random.nextGaussian() * radius),
+                        y + (int) Math.round(random.nextGaussian() * radius),
+                        z + (int) Math.round(random.nextGaussian() * radius), pick(random, blocks));
+            }
+        };
+    }
+
+    /**
+     * Fills whole chunk sections with a single block, like a world edit.
+     * The sections are chosen among those containing a block of the box between two corners.
+     * <p>
+     * A section is filled entirely even where it extends beyond the box, so every section touching the box
+     * must lie in a loaded chunk, since an instance fails to change blocks in unloaded chunks.
+     *
+     * @param from            the first corner
+     * @param to              the second corner
+     * @param sectionsPerTick the amount of sections filled in each tick
+     * @param palette         the blocks to choose from
+     * @param seed            the seed of the random changes
+     * @return the workload
+     */
+    static BlockWorkload wholeSection(Point from, Point to, int sectionsPerTick, List<Block> palette, long seed) {
+        final List<Block> blocks = List.copyOf(palette);
+        return (setter, tick) -> {
+            final Random random = random(seed, tick);
+            for (int i = 0; i < sectionsPerTick; i++) {
+                final int sectionX = between(random, from.blockX(), to.blockX()) >> 4;
+                final int sectionY = between(random, from.blockY(), to.blockY()) >> 4;
+                final int sectionZ = between(random, from.blockZ(), to.blockZ()) >> 4;
+                final Block block = pick(random, blocks);
+                for (int x = 0; x < 16; x++) {
+                    for (int y = 0; y < 16; y++) {
+                        for (int z = 0; z < 16; z++) {
+                            setter.setBlock((sectionX << 4) + x, (sectionY << 4) + y, (sectionZ << 4) + z, block);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    private static Random random(long seed, int tick) {
+        return new Random(seed * 31 + tick);
+    }
+
+    private static int between(Random random, int a, int b) {
+        return Math.min(a, b) + random.nextInt(Math.abs(b - a) + 1);
+    }
+
+    private static Block pick(Random random, List<Block> blocks) {
+        return blocks.get(random.nextInt(blocks.size()));
+    }
+}
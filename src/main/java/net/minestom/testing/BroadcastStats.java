@@ -0,0 +1,64 @@
+package net.minestom.testing;
+
+/**
+ * The efficiency of the broadcasts received by a group of viewers, measured by
+ * {@link Env#measureBroadcast(java.util.Collection, int, java.util.function.ObjIntConsumer)}.
+ * <p>
+ * A send is grouped when the viewer received a packet which was prepared once and shared with other receivers,
+ * and individual when the viewer received a plain server packet, which its connection encodes on its own.
+ * Without grouping, Minestom hands the same server packet instance to every viewer of a broadcast.
+ *
+ * @param viewers          the amount of measured viewers
+ * @param ticks            the amount of measured ticks
+ * @param tickTime         the duration of the measured ticks, which excludes measuring the bytes
+ * @param packets          the amount of packets received by all viewers
+ * @param bytes            the encoded size of all received packets, excluding framing and compression
+ * @param groupedSends     the amount of received packets which were shared between receivers
+ * @param groupedPackets   the amount of distinct shared packets behind the grouped sends
+ * @param individualSends  the amount of received plain server packets, which were encoded per receiver
+ * @since 0.8.0
+ */
+public record BroadcastStats(int viewers, int ticks, TimingStats tickTime, long packets, long bytes,
+                             long groupedSends, long groupedPackets, long individualSends) {
+
+    /**
+     * Gets the average amount of packets a single viewer received in a single tick.
+     *
+     * @return the packets per viewer per tick
+     */
+    public double packetsPerViewerPerTick() {
+        return perViewerPerTick(packets);
+    }
+
+    /**
+     * Gets the average amount of bytes a single viewer received in a single tick.
+     *
+     * @return the bytes per viewer per tick
+     */
+    public double bytesPerViewerPerTick() {
+        return perViewerPerTick(bytes);
+    }
+
+    /**
+     * Gets the share of received packets which were grouped.
+     *
+     * @return a ratio between 0 and 1
+     */
+    public double groupedRatio() {
+        return packets == 0 ? 0 : (double) groupedSends / packets;
+    }
+
+    /**
+     * Gets the average amount of viewers a grouped packet was delivered to.
+     *
+     * @return the average fan-out of grouped packets
+     */
+    public double groupedFanOut() {
+        return groupedPackets == 0 ? 0 : (double) groupedSends / groupedPackets;
+    }
+
+    private double perViewerPerTick(long value) {
+        if (viewers == 0 || ticks == 0) return 0;
+        return (double) value / viewers / ticks;
+    }
+}
@@ -0,0 +1,61 @@
+package net.minestom.testing;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * How chunks were streamed to a player, measured by {@link Env#measureChunkStreaming(net.minestom.server.entity.Player, Runnable, int)}.
+ *
+ * @param ticks           the amount of measured ticks
+ * @param ticksToFullView the ticks until the player had received every chunk in view, or {@code -1} if it never did
+ * @param timeToFullView  the time until the player had received every chunk in view, or {@code null} if it never did
+ * @param chunksPerTick   the chunks the player received in each measured tick
+ * @param batchSizes      the size of each chunk batch the player received, empty unless the chunk queue is used
+ * @since 0.8.0
+ */
+public record ChunkStreamingReport(int ticks, int ticksToFullView, @Nullable Duration timeToFullView,
+                                   List<Integer> chunksPerTick, List<Integer> batchSizes) {
+
+    public ChunkStreamingReport {
+        chunksPerTick = List.copyOf(chunksPerTick);
+        batchSizes = List.copyOf(batchSizes);
+    }
+
+    /**
+     * Checks whether the player received every chunk in view before the measurement ended.
+     *
+     * @return true if the full view was reached
+     */
+    public boolean reachedFullView() {
+        return ticksToFullView >= 0;
+    }
+
+    /**
+     * Gets the total amount of chunks the player received.
+     *
+     * @return the amount of chunks
+     */
+    public int chunksSent() {
+        return chunksPerTick.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Gets the highest amount of chunks the player received in a single tick.
+     *
+     * @return the peak chunks per tick
+     */
+    public int maxChunksPerTick() {
+        return chunksPerTick.stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * Gets the average size of the chunk batches the player received.
+     *
+     * @return the average batch size, or 0 without batches
+     */
+    public double averageBatchSize() {
+        return batchSizes.stream().mapToInt(Integer::intValue).average().orElse(0);
+    }
+}
@@ -0,0 +1,48 @@
+package net.minestom.testing;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The cost of players continuously joining and leaving, measured by
+ * {@link Env#measureChurn(net.minestom.server.instance.Instance, int, int, int)}.
+ * <p>
+ * A cycle ends whenever every connection of the churn pool has logged in once more. The heap is sampled after
+ * a garbage collection at the end of each cycle, so a steady growth points to state leaking per login.
+ *
+ * @param joins         the amount of logins
+ * @param elapsed       the wall-clock duration of the whole run, including the ticks
+ * @param configuration the duration of the configuration phase of each login
+ * @param transition    the duration of the transition from configuration to play of each login
+ * @param spawn         the duration of spawning the player of each login
+ * @param login         the duration of each whole login
+ * @param heapPerCycle  the used heap in bytes before the first and after each cycle
+ * @since 0.8.0
+ */
+public record ChurnReport(int joins, Duration elapsed, TimingStats configuration, TimingStats transition,
+                          TimingStats spawn, TimingStats login, List<Long> heapPerCycle) {
+
+    public ChurnReport {
+        heapPerCycle = List.copyOf(heapPerCycle);
+    }
+
+    /**
+     * Gets the amount of logins per second of the whole run.
+     *
+     * @return the login throughput
+     */
+    public double joinsPerSecond() {
+        if (elapsed.isZero()) return 0;
+        return joins / (elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * Gets how much the used heap grew between the start and the last cycle.
+     *
+     * @return the heap growth in bytes, which may be negative
+     */
+    public long heapGrowth() {
+        if (heapPerCycle.isEmpty()) return 0;
+        return heapPerCycle.getLast() - heapPerCycle.getFirst();
+    }
+}
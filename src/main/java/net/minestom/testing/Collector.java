@@ -1,8 +1,10 @@
 package net.minestom.testing;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -16,6 +18,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * common test assertions, such as verifying collection size, checking single elements,
  * and validating element types. It's particularly useful in testing scenarios where
  * you need to validate the contents of collections with fluent assertion methods.
+ * <p>
+ * Collectors created by an {@link Env} stop collecting once they are read, whether through {@link #collect()},
+ * a type query such as {@link #countOf(Class)}, or an assertion. Later elements are not part of the collector.
  *
  * @param <T> the type of elements this collector can collect
  * @version 1.0.0
@@ -30,6 +35,66 @@ public interface Collector<T> {
      */
     List<T> collect();
 
+    /**
+     * Counts the collected elements which are instances of the given type.
+     * Collectors created by an {@link Env} count by type while capturing and answer without copying the elements.
+     *
+     * @param type the type of the elements to count, which may also be a supertype
+     * @return the amount of matching elements
+     * @since 0.8.0
+     */
+    default long countOf(Class<? extends T> type) {
+        return collect().stream().filter(type::isInstance).count();
+    }
+
+    /**
+     * Gets the collected elements which are instances of the given type, in the order they were collected.
+     * Collectors created by an {@link Env} index elements by type while capturing, and return the elements
+     * without copying them when they all share one concrete type.
+     *
+     * @param type the type of the elements, which may also be a supertype
+     * @param <P>  the type of the elements
+     * @return the matching elements
+     * @since 0.8.0
+     */
+    default <P extends T> List<P> ofType(Class<P> type) {
+        return collect().stream().filter(type::isInstance).map(type::cast).toList();
+    }
+
+    /**
+     * Gets the amount of collected elements by their concrete type.
+     *
+     * @return the histogram of the element types
+     * @since 0.8.0
+     */
+    default Map<Class<?>, Long> histogram() {
+        return collect().stream().collect(Collectors.groupingBy(Object::getClass, Collectors.counting()));
+    }
+
+    /**
+     * Assert the count of elements which are instances of the given type.
+     *
+     * @param type  the type of the elements, which may also be a supertype
+     * @param count the expected number of elements
+     * @since 0.8.0
+     */
+    default void assertCountOf(Class<? extends T> type, long count) {
+        final long actual = countOf(type);
+        assertEquals(count, actual, () -> "Expected " + count + " element(s) of type " + type.getSimpleName()
+                + ", got " + actual + ": " + histogram());
+    }
+
+    /**
+     * Assert the amount of collected elements of every concrete type. Types which are not part of the expected
+     * distribution must not have been collected.
+     *
+     * @param expected the expected amount of elements by concrete type
+     * @since 0.8.0
+     */
+    default void assertDistribution(Map<Class<?>, Long> expected) {
+        assertEquals(expected, histogram(), "Unexpected distribution of element types");
+    }
+
     /**
      * Assert a single element from the collection, check its type, and apply a consumer to it.
      *
@@ -0,0 +1,94 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Describes where entities are placed by {@link Env#spawnEntities(net.minestom.server.instance.Instance,
+ * net.minestom.server.entity.EntityType, int, EntityDistribution)}.
+ * <p>
+ * All randomized layouts are seeded so that a test always spawns the same positions.
+ *
+ * @since 0.8.0
+ */
+@FunctionalInterface
+public interface EntityDistribution {
+
+    /**
+     * Computes the spawn positions of the given amount of entities.
+     *
+     * @param count the amount of positions to compute
+     * @return exactly {@code count} positions
+     */
+    List<Pos> positions(int count);
+
+    /**
+     * Spreads the entities uniformly over the horizontal area between two corners, at the height of {@code from}.
+     *
+     * @param from the first corner
+     * @param to   the second corner
+     * @param seed the seed of the random positions
+     * @return the distribution
+     */
+    static EntityDistribution uniform(Point from, Point to, long seed) {
+        return count -> {
+            final Random random = new Random(seed);
+            final List<Pos> positions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                positions.add(new Pos(between(random, from.x(), to.x()), from.y(), between(random, from.z(), to.z())));
+            }
+            return positions;
+        };
+    }
+
+    /**
+     * Groups the entities into clusters whose centers are spread uniformly over the area between two corners.
+     * The entities of a cluster are normally distributed around its center.
+     *
+     * @param from     the first corner
+     * @param to       the second corner
+     * @param clusters the amount of clusters
+     * @param radius   the standard deviation of the distance to the cluster center
+     * @param seed     the seed of the random positions
+     * @return the distribution
+     */
+    static EntityDistribution clustered(Point from, Point to, int clusters, double radius, long seed) {
+        if (clusters <= 0) throw new IllegalArgumentException("At least one cluster is required");
+        return count -> {
+            final Random random = new Random(seed);
+            final List<Pos> centers = uniform(from, to, random.nextLong()).positions(clusters);
+            final List<Pos> positions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                final Pos center = centers.get(i % clusters);
+                positions.add(center.add(random.nextGaussian() * radius, 0, random.nextGaussian() * radius));
+            }
+            return positions;
+        };
+    }
+
+    /**
+     * Places the entities on a square grid starting at the origin and growing towards positive x and z.
+     *
+     * @param origin  the position of the first entity
+     * @param spacing the distance between two neighbouring entities
+     * @return the distribution
+     */
+    static EntityDistribution grid(Point origin, double spacing) {
+        return count -> {
+            final int side = (int) Math.ceil(Math.sqrt(count));
+            final List<Pos> positions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                positions.add(new Pos(origin.x() + (i % side) * spacing, origin.y(), origin.z() + (i / side) * spacing));
+            }
+            return positions;
+        };
+    }
+
+    private static double between(Random random, double a, double b) {
+        return Math.min(a, b) + random.nextDouble() * Math.abs(b - a);
+    }
+}
@@ -2,19 +2,29 @@ package net.minestom.testing;
 
 import net.minestom.server.ServerProcess;
 import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.instance.ChunkLoader;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.network.player.GameProfile;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BooleanSupplier;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
 
 /**
  * The {@code Env} class facilitates the creation of tests (e.g., JUnit tests) that interact directly
@@ -96,6 +106,28 @@ public interface Env {
      */
     <E extends Event> FlexibleListener<E> listen(Class<E> eventType);
 
+    /**
+     * Gets the running counters of this environment. Counting starts with the first call of this method.
+     * An environment shared through {@link net.minestom.testing.extension.SharedEnv} drops its counters between
+     * tests, so a test only sees its own counts.
+     *
+     * @return the metrics of this environment
+     * @since 0.8.0
+     */
+    EnvMetrics metrics();
+
+    /**
+     * Fails the test as soon as a tick driven through this environment takes longer than the given budget.
+     * The failure message contains the slowest instance, chunk and scheduler task of that tick.
+     * This is the programmatic form of {@link net.minestom.testing.extension.TickBudget}.
+     * <p>
+     * Only instances created after this call are profiled per chunk.
+     *
+     * @param budget the maximum duration of a single tick
+     * @since 0.8.0
+     */
+    void enforceTickBudget(Duration budget);
+
     /**
      * Ticks the {@link ServerProcess} which is involved into the env instance.
      */
@@ -111,11 +143,9 @@ public interface Env {
      * @return true if the condition was met, false if the timeout was reached
      */
     default boolean tickWhile(BooleanSupplier condition, @Nullable Duration timeout) {
-        var ticker = process().ticker();
         final long start = System.nanoTime();
         while (condition.getAsBoolean()) {
-            final long tick = System.nanoTime();
-            ticker.tick(tick);
+            tick();
             if (timeout != null && System.nanoTime() - start > timeout.toNanos()) {
                 return false;
             }
@@ -144,6 +174,199 @@ public interface Env {
         return createPlayer(instance, Pos.ZERO);
     }
 
+    /**
+     * Spawns many entities of the given type at once and waits until all of them are in the instance.
+     *
+     * @param instance     the instance to spawn the entities in
+     * @param type         the type of the entities
+     * @param count        the amount of entities to spawn
+     * @param distribution the layout of the spawn positions
+     * @return the spawned entities, in the order of the positions of the distribution
+     * @since 0.8.0
+     */
+    default List<Entity> spawnEntities(Instance instance, EntityType type, int count, EntityDistribution distribution) {
+        return spawnEntities(instance, count, distribution, () -> new Entity(type));
+    }
+
+    /**
+     * Spawns many entities created by the given factory at once and waits until all of them are in the instance.
+     *
+     * @param instance     the instance to spawn the entities in
+     * @param count        the amount of entities to spawn
+     * @param distribution the layout of the spawn positions
+     * @param factory      creates a new entity for each position
+     * @param <T>          the entity type
+     * @return the spawned entities, in the order of the positions of the distribution
+     * @since 0.8.0
+     */
+    default <T extends Entity> List<T> spawnEntities(Instance instance, int count, EntityDistribution distribution,
+                                                     Supplier<T> factory) {
+        final List<Pos> positions = distribution.positions(count);
+        final List<T> entities = new ArrayList<>(count);
+        final CompletableFuture<?>[] spawns = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) {
+            final T entity = factory.get();
+            spawns[i] = entity.setInstance(instance, positions.get(i));
+            entities.add(entity);
+        }
+        CompletableFuture.allOf(spawns).join();
+        return entities;
+    }
+
+    /**
+     * Measures the tick time and the packets the given viewers receive over a number of ticks.
+     * Before each tick, {@code movement} is called for every viewer with the index of the upcoming tick,
+     * which allows the viewers to move among the entities of the instance.
+     *
+     * @param viewers  the players to measure, which must be created by this environment
+     * @param ticks    the amount of ticks to measure
+     * @param movement moves a viewer before the given tick
+     * @return the measured cost
+     * @since 0.8.0
+     */
+    ViewerCost measureViewerCost(Collection<? extends Player> viewers, int ticks, ObjIntConsumer<? super Player> movement);
+
+    /**
+     * Measures how efficiently broadcasts reach the given viewers over a number of ticks: the packets and bytes
+     * per viewer per tick, and how many of the received packets were grouped or individual sends.
+     * Before each tick, {@code movement} is called for every viewer with the index of the upcoming tick.
+     *
+     * @param viewers  the players to measure, which must be created by this environment
+     * @param ticks    the amount of ticks to measure
+     * @param movement moves a viewer before the given tick
+     * @return the measured broadcast efficiency
+     * @see net.minestom.testing.extension.BroadcastMode
+     * @since 0.8.0
+     */
+    BroadcastStats measureBroadcast(Collection<? extends Player> viewers, int ticks, ObjIntConsumer<? super Player> movement);
+
+    /**
+     * Measures how chunks are streamed to a player after a movement, such as a teleport, until the player has
+     * received every chunk within its view distance or the tick limit is reached.
+     * To measure the real chunk batching and rate limiting, the player must be connected through a connection
+     * which uses the {@link TestConnection#useChunkQueue(float) chunk queue}.
+     *
+     * @param player   the player to measure, which must be created by this environment
+     * @param movement moves the player, called once before the first tick
+     * @param maxTicks the maximum amount of ticks to measure
+     * @return the measured chunk streaming
+     * @since 0.8.0
+     */
+    ChunkStreamingReport measureChunkStreaming(Player player, Runnable movement, int maxTicks);
+
+    /**
+     * Moves the given players along a path for a number of ticks and measures the server-side cost of it:
+     * the tick time, the chunks loaded and unloaded by instances, the chunks sent to and dropped by the players,
+     * and the entities spawned and destroyed for them.
+     * Before each tick, every player receives a movement packet to the next position of the path, which the tick
+     * processes like the movement of a real client. The tick time therefore includes the cost of the movement.
+     * A position sync sent by the server is confirmed like a client would, once it reaches the connection.
+     *
+     * @param players the players to move, which must be created by this environment
+     * @param path    the path the players follow
+     * @param ticks   the amount of ticks to measure
+     * @return the measured cost
+     * @since 0.8.0
+     */
+    MovementReport measureMovement(Collection<? extends Player> players, MovementPath path, int ticks);
+
+    /**
+     * Lets players join and leave the given instance continuously and measures the login latency, the login
+     * throughput and the heap growth across cycles.
+     * Each tick, up to {@code joinsPerTick} players log in, and every player is disconnected again after
+     * {@code ticksOnline} ticks. The connections are reused for later logins.
+     *
+     * @param instance     the instance the players join
+     * @param joins        the total amount of logins
+     * @param joinsPerTick the amount of logins per tick
+     * @param ticksOnline  the ticks a player stays online before disconnecting
+     * @return the measured churn
+     * @since 0.8.0
+     */
+    ChurnReport measureChurn(Instance instance, int joins, int joinsPerTick, int ticksOnline);
+
+    /**
+     * Applies a block workload to an instance for a number of ticks and measures the cost of applying the changes,
+     * the tick time, and how the changes were packed into packets for the given viewers.
+     * Before each tick, the changes of the workload are applied either directly to the instance or collected
+     * in an {@link net.minestom.server.instance.batch.AbsoluteBlockBatch} which is then applied at once.
+     *
+     * @param instance the instance to change
+     * @param viewers  the players to measure, which must be created by this environment
+     * @param workload the block changes to apply
+     * @param ticks    the amount of ticks to measure
+     * @param batched  true to apply the changes of each tick through a block batch
+     * @return the measured block updates
+     * @since 0.8.0
+     */
+    BlockUpdateReport measureBlockUpdates(Instance instance, Collection<? extends Player> viewers,
+                                          BlockWorkload workload, int ticks, boolean batched);
+
+    /**
+     * Estimates the retained heap of a connected player by connecting many players to the given instance.
+     * A first player is connected before measuring, so that the chunks around the spawn are already loaded and
+     * not counted as part of the players. All players, including the first one, are disconnected after measuring.
+     *
+     * @param instance the instance the players join
+     * @param count    the amount of players to connect
+     * @return the measured footprint
+     * @see HeapFootprint#assertPerObjectBelow(long)
+     * @since 0.8.0
+     */
+    default HeapFootprint measurePlayerFootprint(Instance instance, int count) {
+        final TestConnection first = createConnection();
+        first.connect(instance);
+        try {
+            return HeapFootprint.measure(count, () -> {
+                final List<TestConnection> connections = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    final TestConnection connection = createConnection();
+                    connection.connect(instance);
+                    connections.add(connection);
+                }
+                return connections;
+            }, connections -> connections.forEach(TestConnection::disconnect));
+        } finally {
+            first.disconnect();
+        }
+    }
+
+    /**
+     * Estimates the retained heap of a flat instance, without any loaded chunks, by creating many of them.
+     * The instances are unregistered after measuring.
+     *
+     * @param count the amount of instances to create
+     * @return the measured footprint
+     * @see HeapFootprint#assertPerObjectBelow(long)
+     * @since 0.8.0
+     */
+    default HeapFootprint measureInstanceFootprint(int count) {
+        return HeapFootprint.measure(count, () -> {
+            final List<Instance> instances = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) instances.add(createFlatInstance());
+            return instances;
+        }, instances -> instances.forEach(this::destroyInstance));
+    }
+
+    /**
+     * Estimates the retained heap of an entity by spawning many of them on a grid in the given instance.
+     * The grid is filled and cleared once before measuring, so that the chunks it covers are already loaded and
+     * not counted as part of the entities. The entities are removed after measuring.
+     *
+     * @param instance the instance to spawn the entities in
+     * @param type     the type of the entities
+     * @param count    the amount of entities to spawn
+     * @return the measured footprint
+     * @see HeapFootprint#assertPerObjectBelow(long)
+     * @since 0.8.0
+     */
+    default HeapFootprint measureEntityFootprint(Instance instance, EntityType type, int count) {
+        final EntityDistribution grid = EntityDistribution.grid(new Pos(0, 40, 0), 2);
+        spawnEntities(instance, type, count, grid).forEach(Entity::remove);
+        return HeapFootprint.measure(count, () -> spawnEntities(instance, type, count, grid),
+                entities -> entities.forEach(Entity::remove));
+    }
+
     /**
      * Creates a new {@link Instance} which contains only one layer of stone blocks.
      *
@@ -160,17 +383,60 @@ public interface Env {
      * @return the created instance
      */
     default Instance createFlatInstance(@Nullable ChunkLoader chunkLoader) {
-        var instance = process().instance().createInstanceContainer(chunkLoader);
+        var instance = createEmptyInstance(chunkLoader);
         instance.setGenerator(unit -> unit.modifier().fillHeight(0, 40, Block.STONE));
         return instance;
     }
 
+    /**
+     * Creates a new {@link Instance} which contains only one layer of stone blocks and computes light,
+     * with sky light above the stone.
+     *
+     * @return the created instance
+     * @since 0.8.0
+     */
+    default Instance createLitFlatInstance() {
+        return createLitFlatInstance(null);
+    }
+
+    /**
+     * Creates a new {@link Instance} which contains only one layer of stone blocks and computes light,
+     * with sky light above the stone. Its chunks are {@link LightingChunk lighting chunks}.
+     *
+     * @param chunkLoader the chunk loader to use for the instance
+     * @return the created instance
+     * @since 0.8.0
+     */
+    default Instance createLitFlatInstance(@Nullable ChunkLoader chunkLoader) {
+        var instance = createFlatInstance(chunkLoader);
+        if (instance instanceof InstanceContainer container) container.setChunkSupplier(LightingChunk::new);
+        return instance;
+    }
+
+    /**
+     * Measures the cost of light computation in a lit instance, such as one created by {@link #createLitFlatInstance()}.
+     * <p>
+     * First the chunks within the given radius around the origin are loaded and their light is computed.
+     * A viewer is then connected at the origin, and the placement and the removal workloads are applied once each,
+     * followed by the given amount of ticks in which the light updates are computed and sent.
+     *
+     * @param instance    the lit instance to measure
+     * @param chunkRadius the radius of the square of chunks to load around the origin
+     * @param placement   the blocks to place, applied with tick index 0
+     * @param removal     the blocks to remove, applied with tick index 0
+     * @param settleTicks the ticks to run after each workload
+     * @return the measured lighting cost
+     * @since 0.8.0
+     */
+    LightingReport measureLighting(Instance instance, int chunkRadius, BlockWorkload placement,
+                                   BlockWorkload removal, int settleTicks);
+
     /**
      * Creates a new {@link Instance} which is empty and can be used in the test environment.
      * @param chunkLoader the chunk loader to use for the instance
      * @return the created instance
      */
-    default Instance createEmptyInstance(ChunkLoader chunkLoader) {
+    default Instance createEmptyInstance(@Nullable ChunkLoader chunkLoader) {
         return process().instance().createInstanceContainer(chunkLoader);
     }
 
@@ -206,6 +472,16 @@ public interface Env {
         process().instance().unregisterInstance(instance);
     }
 
+    /**
+     * Fails with all exceptions which server threads have thrown since the last check, each with the thread
+     * and tick it was thrown in. Exceptions are captured without interrupting the thread which threw them
+     * and are reported here, which {@link #cleanup()} calls as well. Call it at a checkpoint of a test to fail early.
+     *
+     * @throws org.opentest4j.AssertionFailedError if exceptions were thrown, with each of them suppressed
+     * @since 0.8.0
+     */
+    void assertNoServerExceptions();
+
     /**
      * Cleanup the test environment
      *
@@ -1,15 +1,34 @@
 package net.minestom.testing;
 
 import net.minestom.server.ServerProcess;
+import net.minestom.server.entity.Player;
 import net.minestom.server.event.Event;
 import net.minestom.server.event.EventFilter;
 import net.minestom.server.event.EventListener;
+import net.minestom.server.instance.ChunkLoader;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.generator.Generator;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.player.GameProfile;
-import org.junit.jupiter.api.Assertions;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.Nullable;
+import org.opentest4j.AssertionFailedError;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -17,22 +36,54 @@ import static org.junit.jupiter.api.Assertions.fail;
 public final class EnvImpl implements Env {
     private final ServerProcess process;
     private final List<FlexibleListenerImpl<?>> listeners = new CopyOnWriteArrayList<>();
+    private final List<EventCollector<?>> collectors = new CopyOnWriteArrayList<>();
+    private final List<TestConnectionImpl> connections = new CopyOnWriteArrayList<>();
+    private final List<PacketObserver> packetObservers = new CopyOnWriteArrayList<>();
+    private final Queue<ServerException> exceptions = new ConcurrentLinkedQueue<>();
+    private final EnvMeasurements measurements = new EnvMeasurements(this);
+    private @Nullable TickProfiler tickProfiler;
+    private volatile @Nullable EnvMetrics metrics;
+    private @Nullable EventListener<Event> metricsListener;
+    private volatile String scenario = "";
+    private volatile long tickCount;
+
+    private Set<Instance> baselineInstances = Set.of();
+    private int baselineListeners;
+    private int baselineCollectors;
+    private int baselineConnections;
 
     public EnvImpl(ServerProcess process) {
         this.process = process;
-        // If exceptions reach the exception handler, by default fail the test.
-        process().exception().setExceptionHandler(EnvImpl::handleException);
+        // If exceptions reach the exception handler, by default fail the test once it checks for them.
+        // Failing right away would kill the server thread which threw in the middle of a tick.
+        process().exception().setExceptionHandler(this::handleException);
 
         // Start the dispatcher threads if not already started.
         process().dispatcher().start();
 
-        // Use player provider to disable queued chunk sending.
+        // Use player provider to disable queued chunk sending, unless the connection asks for it.
         // Set here to allow an individual test to override if they want.
-        process.connection().setPlayerProvider(TestPlayerImpl::new);
+        process.connection().setPlayerProvider((connection, gameProfile) -> new TestPlayerImpl(connection, gameProfile,
+                connection instanceof TestConnectionImpl.PlayerConnectionImpl test && test.owner().queuedChunks()));
     }
 
-    static void handleException(Throwable exception) {
-        Assertions.fail("Server threw exception", exception);
+    private void handleException(Throwable exception) {
+        exceptions.add(new ServerException(Thread.currentThread().getName(), tickCount, exception));
+    }
+
+    @Override
+    public void assertNoServerExceptions() {
+        final List<ServerException> thrown = new ArrayList<>();
+        ServerException exception;
+        while ((exception = exceptions.poll()) != null) thrown.add(exception);
+        if (thrown.isEmpty()) return;
+
+        final StringBuilder message = new StringBuilder("Server threads threw ")
+                .append(thrown.size()).append(" exception(s):");
+        thrown.forEach(captured -> message.append("\n - ").append(captured));
+        final AssertionFailedError error = new AssertionFailedError(message.toString());
+        thrown.forEach(captured -> error.addSuppressed(captured.exception()));
+        throw error;
     }
 
     @Override
@@ -40,15 +91,156 @@ public final class EnvImpl implements Env {
         return process;
     }
 
+    @Override
+    public void enforceTickBudget(Duration budget) {
+        if (this.tickProfiler != null) this.tickProfiler.close();
+        this.tickProfiler = new TickProfiler(process, budget);
+    }
+
+    /**
+     * Sets the name of the test scenario which is attached to the flight recorder events of this environment.
+     *
+     * @param scenario the scenario name, usually the running test
+     */
+    public void scenario(String scenario) {
+        this.scenario = scenario;
+    }
+
+    String scenario() {
+        return scenario;
+    }
+
+    long tickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public EnvMetrics metrics() {
+        EnvMetrics metrics = this.metrics;
+        if (metrics != null) return metrics;
+        synchronized (this) {
+            metrics = this.metrics;
+            if (metrics == null) {
+                metrics = new EnvMetrics();
+                this.metricsListener = EventListener.of(Event.class, metrics::recordEvent);
+                process.eventHandler().addListener(this.metricsListener);
+                this.metrics = metrics;
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * Stops counting and drops the counters, so that the next call of {@link #metrics()} starts from zero.
+     */
+    private synchronized void resetMetrics() {
+        if (this.metricsListener != null) process.eventHandler().removeListener(this.metricsListener);
+        this.metricsListener = null;
+        this.metrics = null;
+    }
+
+    @Nullable EnvMetrics activeMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void tick() {
+        final FlightEvents.Tick event = new FlightEvents.Tick();
+        event.begin();
+        final long tick = this.tickCount + 1;
+        this.tickCount = tick;
+        final EnvMetrics metrics = this.metrics;
+        if (metrics != null) metrics.recordTick();
+        try {
+            final TickProfiler profiler = this.tickProfiler;
+            if (profiler != null) {
+                profiler.tick();
+            } else {
+                process.ticker().tick(System.nanoTime());
+            }
+        } finally {
+            if (event.shouldCommit()) {
+                event.scenario = scenario;
+                event.tick = tick;
+                event.commit();
+            }
+        }
+    }
+
+    void addPacketObserver(PacketObserver observer) {
+        packetObservers.add(observer);
+    }
+
+    void removePacketObserver(PacketObserver observer) {
+        packetObservers.remove(observer);
+    }
+
+    void observePacket(PlayerConnection connection, SendablePacket sent, ServerPacket packet) {
+        final EnvMetrics metrics = this.metrics;
+        if (metrics != null) metrics.recordPacket(packet);
+        final FlightEvents.PacketDelivery event = new FlightEvents.PacketDelivery();
+        if (event.shouldCommit()) {
+            final Player player = connection.getPlayer();
+            event.scenario = scenario;
+            event.tick = tickCount;
+            event.player = player != null ? player.getUsername() : "";
+            event.packet = packet.getClass().getSimpleName();
+            event.grouped = !(sent instanceof ServerPacket);
+            event.commit();
+        }
+        for (PacketObserver observer : packetObservers) {
+            observer.observe(connection, sent, packet);
+        }
+    }
+
+    @Override
+    public Instance createFlatInstance(@Nullable ChunkLoader chunkLoader) {
+        final Instance instance = Env.super.createFlatInstance(chunkLoader);
+        final Generator generator = Objects.requireNonNull(instance.generator());
+        instance.setGenerator(unit -> {
+            final EnvMetrics metrics = this.metrics;
+            if (metrics != null) metrics.recordFlatChunkGenerated();
+            generator.generate(unit);
+        });
+        return instance;
+    }
+
+    @Override
+    public Instance createLitFlatInstance(@Nullable ChunkLoader chunkLoader) {
+        final InstanceContainer instance = (InstanceContainer) createFlatInstance(chunkLoader);
+        final TickProfiler profiler = this.tickProfiler;
+        instance.setChunkSupplier(profiler != null ? profiler::createLitChunk : LightingChunk::new);
+        return instance;
+    }
+
+    @Override
+    public Instance createEmptyInstance(@Nullable ChunkLoader chunkLoader) {
+        return track(process.instance().createInstanceContainer(chunkLoader));
+    }
+
+    @Override
+    public Instance createEmptyInstance() {
+        return track(process.instance().createInstanceContainer());
+    }
+
+    private InstanceContainer track(InstanceContainer instance) {
+        final TickProfiler profiler = this.tickProfiler;
+        if (profiler != null) instance.setChunkSupplier(profiler::createChunk);
+        return instance;
+    }
+
     @Override
     public TestConnection createConnection(GameProfile gameProfile) {
-        return new TestConnectionImpl(this, gameProfile);
+        var connection = new TestConnectionImpl(this, gameProfile);
+        this.connections.add(connection);
+        return connection;
     }
 
     @Override
     public <E extends Event, H> Collector<E> trackEvent(Class<E> eventType, EventFilter<? super E, H> filter, H actor) {
         var tracker = new EventCollector<E>(actor);
-        this.process.eventHandler().map(actor, filter).addListener(eventType, tracker.events::add);
+        this.process.eventHandler().map(actor, filter).addListener(eventType, tracker::capture);
+        this.collectors.add(tracker);
         return tracker;
     }
 
@@ -58,33 +250,172 @@ public final class EnvImpl implements Env {
         var flexible = new FlexibleListenerImpl<>(eventType);
         var listener = EventListener.of(eventType, e -> flexible.handler.accept(e));
         handler.addListener(listener);
+        flexible.listener = listener;
         this.listeners.add(flexible);
         return flexible;
     }
 
+    @Override
+    public ViewerCost measureViewerCost(Collection<? extends Player> viewers, int ticks, ObjIntConsumer<? super Player> movement) {
+        return measurements.measureViewerCost(viewers, ticks, movement);
+    }
+
+    @Override
+    public BroadcastStats measureBroadcast(Collection<? extends Player> viewers, int ticks, ObjIntConsumer<? super Player> movement) {
+        return measurements.measureBroadcast(viewers, ticks, movement);
+    }
+
+    @Override
+    public ChunkStreamingReport measureChunkStreaming(Player player, Runnable movement, int maxTicks) {
+        return measurements.measureChunkStreaming(player, movement, maxTicks);
+    }
+
+    @Override
+    public MovementReport measureMovement(Collection<? extends Player> players, MovementPath path, int ticks) {
+        return measurements.measureMovement(players, path, ticks);
+    }
+
+    @Override
+    public ChurnReport measureChurn(Instance instance, int joins, int joinsPerTick, int ticksOnline) {
+        return measurements.measureChurn(instance, joins, joinsPerTick, ticksOnline);
+    }
+
+    @Override
+    public BlockUpdateReport measureBlockUpdates(Instance instance, Collection<? extends Player> viewers,
+                                                 BlockWorkload workload, int ticks, boolean batched) {
+        return measurements.measureBlockUpdates(instance, viewers, workload, ticks, batched);
+    }
+
+    @Override
+    public LightingReport measureLighting(Instance instance, int chunkRadius, BlockWorkload placement,
+                                          BlockWorkload removal, int settleTicks) {
+        return measurements.measureLighting(instance, chunkRadius, placement, removal, settleTicks);
+    }
+
+    void captured(String collector, Object element) {
+        final FlightEvents.CollectorCapture event = new FlightEvents.CollectorCapture();
+        if (event.shouldCommit()) {
+            event.scenario = scenario;
+            event.tick = tickCount;
+            event.collector = collector;
+            event.element = element.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Marks the current listeners, collectors, connections and instances as the baseline which
+     * {@link #reset()} returns to. Everything created before this call survives a reset.
+     */
+    public void markBaseline() {
+        this.baselineInstances = Set.copyOf(process.instance().getInstances());
+        this.baselineListeners = listeners.size();
+        this.baselineCollectors = collectors.size();
+        this.baselineConnections = connections.size();
+    }
+
+    /**
+     * Returns this environment to the last baseline without restarting the server process.
+     * Listeners created since the baseline are checked and removed, collectors stop tracking,
+     * players of new connections are removed and new instances are unregistered.
+     */
+    public void reset() {
+        try {
+            checkListeners(afterBaseline(listeners, baselineListeners));
+        } finally {
+            for (FlexibleListenerImpl<?> listener : removeAfterBaseline(listeners, baselineListeners)) {
+                process.eventHandler().removeListener(listener.listener);
+            }
+            for (EventCollector<?> collector : removeAfterBaseline(collectors, baselineCollectors)) {
+                process.eventHandler().unmap(collector.handler);
+            }
+            removeAfterBaseline(connections, baselineConnections).forEach(TestConnectionImpl::reset);
+            for (Instance instance : Set.copyOf(process.instance().getInstances())) {
+                if (!baselineInstances.contains(instance)) destroyInstance(instance, true);
+            }
+            if (this.tickProfiler != null) {
+                this.tickProfiler.close();
+                this.tickProfiler = null;
+            }
+            resetMetrics();
+        }
+        assertNoServerExceptions();
+    }
+
+    private static <T> List<T> afterBaseline(List<T> list, int baseline) {
+        return List.copyOf(list.subList(Math.min(baseline, list.size()), list.size()));
+    }
+
+    private static <T> List<T> removeAfterBaseline(List<T> list, int baseline) {
+        final List<T> removed = afterBaseline(list, baseline);
+        list.removeAll(removed);
+        return removed;
+    }
+
     @Override
     public void cleanup() {
-        this.listeners.forEach(FlexibleListenerImpl::check);
-        this.process.stop();
+        try {
+            checkListeners(this.listeners);
+        } finally {
+            if (this.tickProfiler != null) this.tickProfiler.close();
+            this.process.stop();
+            this.connections.forEach(TestConnectionImpl::releaseOffHeap);
+        }
+        assertNoServerExceptions();
+    }
+
+    private void checkListeners(List<FlexibleListenerImpl<?>> listeners) {
+        // Handlers throw on server threads into the queue, and a handler which threw is never marked as called.
+        // Report those exceptions first, since they explain the listener which appears not to have been called.
+        assertNoServerExceptions();
+        listeners.forEach(FlexibleListenerImpl::check);
     }
 
     final class EventCollector<E extends Event> implements Collector<E> {
         private final Object handler;
-        private final List<E> events = new CopyOnWriteArrayList<>();
+        private final TypeIndex<E> index = new TypeIndex<>(true);
 
         public EventCollector(Object handler) {
             this.handler = handler;
         }
 
+        void capture(E event) {
+            if (index.record(event)) captured("event", event);
+        }
+
         @Override
         public List<E> collect() {
+            stopTracking();
+            return index.all();
+        }
+
+        @Override
+        public long countOf(Class<? extends E> type) {
+            stopTracking();
+            return index.countOf(type);
+        }
+
+        @Override
+        public <P extends E> List<P> ofType(Class<P> type) {
+            stopTracking();
+            return index.ofType(type);
+        }
+
+        @Override
+        public Map<Class<?>, Long> histogram() {
+            stopTracking();
+            return index.histogram();
+        }
+
+        private void stopTracking() {
             process.eventHandler().unmap(handler);
-            return List.copyOf(events);
+            index.freeze();
         }
     }
 
     static final class FlexibleListenerImpl<E extends Event> implements FlexibleListener<E> {
         private final Class<E> eventType;
+        private @Nullable EventListener<E> listener;
         private Consumer<E> handler = e -> {
         };
         private boolean initialized;
@@ -0,0 +1,373 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.EventListener;
+import net.minestom.server.event.instance.InstanceChunkLoadEvent;
+import net.minestom.server.event.instance.InstanceChunkUnloadEvent;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.ChunkBatchFinishedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.DestroyEntitiesPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.network.packet.server.play.PlayerPositionAndLookPacket;
+import net.minestom.server.network.packet.server.play.SpawnEntityPacket;
+import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
+import net.minestom.server.network.packet.server.play.UpdateLightPacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerConnection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the measurements of an {@link EnvImpl}, which delegates its measurement methods to it: it ticks
+ * the environment, moves or connects players and counts the packets delivered to them through the packet observers.
+ */
+final class EnvMeasurements {
+    private final EnvImpl env;
+
+    EnvMeasurements(EnvImpl env) {
+        this.env = env;
+    }
+
+    ViewerCost measureViewerCost(Collection<? extends Player> viewers, int ticks,
+                                 ObjIntConsumer<? super Player> movement) {
+        final Set<PlayerConnection> connections = connectionsOf(viewers);
+        final Map<Class<? extends ServerPacket>, LongAdder> packets = new ConcurrentHashMap<>();
+        final TimingStats tickTime = measureTicks(viewers, ticks, movement, (connection, sent, packet) -> {
+            if (connections.contains(connection)) {
+                packets.computeIfAbsent(packet.getClass(), _ -> new LongAdder()).increment();
+            }
+        });
+
+        final Map<Class<? extends ServerPacket>, Long> packetsByType = new HashMap<>();
+        packets.forEach((type, count) -> packetsByType.put(type, count.sum()));
+        return new ViewerCost(viewers.size(), ticks, tickTime, packetsByType);
+    }
+
+    BroadcastStats measureBroadcast(Collection<? extends Player> viewers, int ticks,
+                                    ObjIntConsumer<? super Player> movement) {
+        final Set<PlayerConnection> connections = connectionsOf(viewers);
+        final Queue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+        final TimingStats tickTime = measureTicks(viewers, ticks, movement, (connection, sent, packet) -> {
+            if (connections.contains(connection)) deliveries.add(new Delivery(connection.getServerState(), sent, packet));
+        });
+
+        // Encode after the measured ticks, so that counting the bytes does not add to the tick time
+        final Map<SendablePacket, Integer> sizes = new IdentityHashMap<>();
+        long bytes = 0;
+        long groupedSends = 0;
+        long individualSends = 0;
+        for (Delivery delivery : deliveries) {
+            if (delivery.sent() instanceof ServerPacket) {
+                individualSends++;
+                bytes += PacketCodec.encode(env.process(), delivery.state(), delivery.packet()).length;
+                continue;
+            }
+            groupedSends++;
+            bytes += sizes.computeIfAbsent(delivery.sent(),
+                    _ -> PacketCodec.encode(env.process(), delivery.state(), delivery.packet()).length);
+        }
+        return new BroadcastStats(viewers.size(), ticks, tickTime, deliveries.size(), bytes,
+                groupedSends, sizes.size(), individualSends);
+    }
+
+    private record Delivery(ConnectionState state, SendablePacket sent, ServerPacket packet) {
+    }
+
+    ChunkStreamingReport measureChunkStreaming(Player player, Runnable movement, int maxTicks) {
+        final TestConnectionImpl connection = TestConnectionImpl.of(player);
+        final PlayerConnection playerConnection = player.getPlayerConnection();
+        final LongAdder chunks = new LongAdder();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final PacketObserver observer = (target, sent, packet) -> {
+            if (target != playerConnection) return;
+            switch (packet) {
+                case ChunkDataPacket _ -> chunks.increment();
+                case ChunkBatchFinishedPacket finished -> batchSizes.add(finished.batchSize());
+                default -> {
+                }
+            }
+        };
+
+        final List<Integer> chunksPerTick = new ArrayList<>();
+        int ticksToFullView = -1;
+        Duration timeToFullView = null;
+        env.addPacketObserver(observer);
+        try {
+            final long start = System.nanoTime();
+            movement.run();
+            for (int i = 0; i < maxTicks && ticksToFullView < 0; i++) {
+                env.tick();
+                chunksPerTick.add((int) chunks.sumThenReset());
+                final Pos position = player.getPosition();
+                if (connection.hasChunksAround(position.chunkX(), position.chunkZ(), player.effectiveViewDistance())) {
+                    ticksToFullView = i + 1;
+                    timeToFullView = Duration.ofNanos(System.nanoTime() - start);
+                }
+            }
+        } finally {
+            env.removePacketObserver(observer);
+        }
+        return new ChunkStreamingReport(chunksPerTick.size(), ticksToFullView, timeToFullView, chunksPerTick, batchSizes);
+    }
+
+    MovementReport measureMovement(Collection<? extends Player> players, MovementPath path, int ticks) {
+        final Set<PlayerConnection> connections = connectionsOf(players);
+        final LongAdder chunksLoaded = new LongAdder();
+        final LongAdder chunksUnloaded = new LongAdder();
+        final LongAdder chunksSent = new LongAdder();
+        final LongAdder chunksDropped = new LongAdder();
+        final LongAdder entitiesShown = new LongAdder();
+        final LongAdder entitiesHidden = new LongAdder();
+        final EventListener<InstanceChunkLoadEvent> loadListener =
+                EventListener.of(InstanceChunkLoadEvent.class, _ -> chunksLoaded.increment());
+        final EventListener<InstanceChunkUnloadEvent> unloadListener =
+                EventListener.of(InstanceChunkUnloadEvent.class, _ -> chunksUnloaded.increment());
+        env.process().eventHandler().addListener(loadListener);
+        env.process().eventHandler().addListener(unloadListener);
+        final TimingStats tickTime;
+        try {
+            tickTime = measureTicks(players, ticks, (player, tick) -> {
+                        // Queued like client packets, so that the movement is processed by the measured tick
+                        player.addPacketToQueue(new ClientPlayerPositionAndRotationPacket(
+                                path.next(player.getPosition(), tick), false, false));
+                    },
+                    (connection, sent, packet) -> {
+                        if (!connections.contains(connection)) return;
+                        switch (packet) {
+                            // Confirmed like a client would, only once the position sync was actually received
+                            case PlayerPositionAndLookPacket sync -> {
+                                final Player player = connection.getPlayer();
+                                if (player != null) player.addPacketToQueue(new ClientTeleportConfirmPacket(sync.teleportId()));
+                            }
+                            case ChunkDataPacket _ -> chunksSent.increment();
+                            case UnloadChunkPacket _ -> chunksDropped.increment();
+                            case SpawnEntityPacket _ -> entitiesShown.increment();
+                            case DestroyEntitiesPacket destroy -> entitiesHidden.add(destroy.entityIds().size());
+                            default -> {
+                            }
+                        }
+                    });
+        } finally {
+            env.process().eventHandler().removeListener(loadListener);
+            env.process().eventHandler().removeListener(unloadListener);
+        }
+        return new MovementReport(players.size(), ticks, tickTime, chunksLoaded.sum(), chunksUnloaded.sum(),
+                chunksSent.sum(), chunksDropped.sum(), entitiesShown.sum(), entitiesHidden.sum());
+    }
+
+    ChurnReport measureChurn(Instance instance, int joins, int joinsPerTick, int ticksOnline) {
+        if (joinsPerTick <= 0) throw new IllegalArgumentException("At least one join per tick is required");
+        // A slot is reused once its previous player has been online for long enough
+        final int poolSize = joinsPerTick * (ticksOnline + 1);
+        final TestConnectionImpl[] pool = new TestConnectionImpl[poolSize];
+        final int[] disconnectAt = new int[poolSize];
+        final long[][] phases = new long[4][joins];
+        final List<Long> heapPerCycle = new ArrayList<>();
+        heapPerCycle.add(HeapFootprint.usedHeap());
+
+        long paused = 0;
+        final long start = System.nanoTime();
+        int joined = 0;
+        int online = 0;
+        for (int tick = 0; joined < joins || online > 0; tick++) {
+            for (int slot = 0; slot < poolSize; slot++) {
+                final TestConnectionImpl connection = pool[slot];
+                if (connection != null && connection.isConnected() && disconnectAt[slot] <= tick) {
+                    connection.disconnect();
+                    online--;
+                }
+            }
+            for (int i = 0; i < joinsPerTick && joined < joins; i++, joined++) {
+                final int slot = joined % poolSize;
+                if (slot == 0 && joined > 0) {
+                    final long gcStart = System.nanoTime();
+                    heapPerCycle.add(HeapFootprint.usedHeap());
+                    paused += System.nanoTime() - gcStart;
+                }
+                TestConnectionImpl connection = pool[slot];
+                if (connection == null) {
+                    connection = (TestConnectionImpl) env.createConnection(new GameProfile(UUID.randomUUID(), "churn-" + slot));
+                    pool[slot] = connection;
+                }
+                connection.connect(instance);
+                disconnectAt[slot] = tick + ticksOnline;
+                online++;
+                final TestConnectionImpl.LoginTimes login = connection.lastLogin();
+                phases[0][joined] = login.configuration();
+                phases[1][joined] = login.transition();
+                phases[2][joined] = login.spawn();
+                phases[3][joined] = login.total();
+            }
+            env.tick();
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start - paused);
+        heapPerCycle.add(HeapFootprint.usedHeap());
+        return new ChurnReport(joins, elapsed, TimingStats.of(phases[0]), TimingStats.of(phases[1]),
+                TimingStats.of(phases[2]), TimingStats.of(phases[3]), heapPerCycle);
+    }
+
+    BlockUpdateReport measureBlockUpdates(Instance instance, Collection<? extends Player> viewers,
+                                          BlockWorkload workload, int ticks, boolean batched) {
+        final Set<PlayerConnection> connections = connectionsOf(viewers);
+        final LongAdder singleBlockPackets = new LongAdder();
+        final LongAdder multiBlockPackets = new LongAdder();
+        final LongAdder multiBlockChanges = new LongAdder();
+        final LongAdder chunkResends = new LongAdder();
+        final PacketObserver observer = (connection, sent, packet) -> {
+            if (!connections.contains(connection)) return;
+            switch (packet) {
+                case BlockChangePacket _ -> singleBlockPackets.increment();
+                case MultiBlockChangePacket multi -> {
+                    multiBlockPackets.increment();
+                    multiBlockChanges.add(multi.blocks().length);
+                }
+                case ChunkDataPacket _ -> chunkResends.increment();
+                default -> {
+                }
+            }
+        };
+
+        final long[] applyTimes = new long[ticks];
+        final long[] tickTimes = new long[ticks];
+        final long[] changes = new long[1];
+        env.addPacketObserver(observer);
+        try {
+            for (int i = 0; i < ticks; i++) {
+                long start = System.nanoTime();
+                if (batched) {
+                    final AbsoluteBlockBatch batch = new AbsoluteBlockBatch();
+                    workload.apply(counting(batch, changes), i);
+                    final CompletableFuture<Void> applied = new CompletableFuture<>();
+                    batch.unsafeApply(instance, () -> applied.complete(null));
+                    applied.join();
+                } else {
+                    workload.apply(counting(instance, changes), i);
+                }
+                applyTimes[i] = System.nanoTime() - start;
+                start = System.nanoTime();
+                env.tick();
+                tickTimes[i] = System.nanoTime() - start;
+            }
+        } finally {
+            env.removePacketObserver(observer);
+        }
+        return new BlockUpdateReport(viewers.size(), ticks, changes[0], TimingStats.of(applyTimes),
+                TimingStats.of(tickTimes), singleBlockPackets.sum(), multiBlockPackets.sum(),
+                multiBlockChanges.sum(), chunkResends.sum());
+    }
+
+    LightingReport measureLighting(Instance instance, int chunkRadius, BlockWorkload placement,
+                                   BlockWorkload removal, int settleTicks) {
+        long start = System.nanoTime();
+        final List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int x = -chunkRadius; x <= chunkRadius; x++) {
+            for (int z = -chunkRadius; z <= chunkRadius; z++) {
+                loads.add(instance.loadChunk(x, z));
+            }
+        }
+        final List<Chunk> chunks = loads.stream().map(CompletableFuture::join).toList();
+        final Duration generation = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        LightingChunk.relight(instance, chunks);
+        final Duration lighting = Duration.ofNanos(System.nanoTime() - start);
+
+        final Player viewer = env.createPlayer(instance, new Pos(0, 41, 0));
+        return new LightingReport(chunks.size(), generation, lighting,
+                measureLightingPhase(instance, viewer, placement, settleTicks),
+                measureLightingPhase(instance, viewer, removal, settleTicks));
+    }
+
+    private LightingReport.Phase measureLightingPhase(Instance instance, Player viewer, BlockWorkload workload,
+                                                      int settleTicks) {
+        final PlayerConnection connection = viewer.getPlayerConnection();
+        final LongAdder lightUpdates = new LongAdder();
+        final LongAdder chunkResends = new LongAdder();
+        final PacketObserver observer = (target, sent, packet) -> {
+            if (target != connection) return;
+            switch (packet) {
+                case UpdateLightPacket _ -> lightUpdates.increment();
+                case ChunkDataPacket _ -> chunkResends.increment();
+                default -> {
+                }
+            }
+        };
+
+        final long[] changes = new long[1];
+        final long[] tickTimes = new long[settleTicks];
+        final Duration applyTime;
+        env.addPacketObserver(observer);
+        try {
+            final long start = System.nanoTime();
+            workload.apply(counting(instance, changes), 0);
+            applyTime = Duration.ofNanos(System.nanoTime() - start);
+            for (int i = 0; i < settleTicks; i++) {
+                final long tickStart = System.nanoTime();
+                env.tick();
+                tickTimes[i] = System.nanoTime() - tickStart;
+            }
+        } finally {
+            env.removePacketObserver(observer);
+        }
+        return new LightingReport.Phase(changes[0], applyTime, TimingStats.of(tickTimes), lightUpdates.sum(),
+                chunkResends.sum());
+    }
+
+    private static Block.Setter counting(Block.Setter target, long[] changes) {
+        return (x, y, z, block) -> {
+            changes[0]++;
+            target.setBlock(x, y, z, block);
+        };
+    }
+
+    private static Set<PlayerConnection> connectionsOf(Collection<? extends Player> players) {
+        return players.stream()
+                .map(Player::getPlayerConnection)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private TimingStats measureTicks(Collection<? extends Player> players, int ticks,
+                                     ObjIntConsumer<? super Player> movement, PacketObserver observer) {
+        final long[] tickTimes = new long[ticks];
+        env.addPacketObserver(observer);
+        try {
+            for (int i = 0; i < ticks; i++) {
+                for (Player player : players) movement.accept(player, i);
+                final long start = System.nanoTime();
+                env.tick();
+                tickTimes[i] = System.nanoTime() - start;
+            }
+        } finally {
+            env.removePacketObserver(observer);
+        }
+        return TimingStats.of(tickTimes);
+    }
+}
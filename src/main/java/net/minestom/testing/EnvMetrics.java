@@ -0,0 +1,88 @@
+package net.minestom.testing;
+
+import net.minestom.server.event.Event;
+import net.minestom.server.event.instance.InstanceChunkLoadEvent;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running counters of an {@link Env}, recording packets, events, ticks, chunks and connections while a test runs.
+ * <p>
+ * Recording only increments striped counters, so it stays cheap when called from dispatcher threads.
+ * Take a {@link #snapshot()} to read the counters, or {@link #measure(Runnable)} an action to get only its effect:
+ *
+ * <pre>
+ * MetricsSnapshot delta = env.metrics().measure(() -> player.teleport(far).join());
+ * assertTrue(delta.chunksSent() &lt;= 25);
+ * </pre>
+ *
+ * @since 0.8.0
+ */
+public final class EnvMetrics {
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder chunksLoaded = new LongAdder();
+    private final LongAdder flatChunksGenerated = new LongAdder();
+    private final LongAdder chunksSent = new LongAdder();
+    private final LongAdder playersConnected = new LongAdder();
+    private final Map<Class<? extends ServerPacket>, LongAdder> packets = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Event>, LongAdder> events = new ConcurrentHashMap<>();
+
+    EnvMetrics() {
+    }
+
+    void recordTick() {
+        ticks.increment();
+    }
+
+    void recordFlatChunkGenerated() {
+        flatChunksGenerated.increment();
+    }
+
+    void recordPlayerConnected() {
+        playersConnected.increment();
+    }
+
+    void recordPacket(ServerPacket packet) {
+        packets.computeIfAbsent(packet.getClass(), _ -> new LongAdder()).increment();
+        if (packet instanceof ChunkDataPacket) chunksSent.increment();
+    }
+
+    void recordEvent(Event event) {
+        events.computeIfAbsent(event.getClass(), _ -> new LongAdder()).increment();
+        if (event instanceof InstanceChunkLoadEvent) chunksLoaded.increment();
+    }
+
+    /**
+     * Reads the current value of all counters.
+     * Counters updated concurrently to this call may or may not be included.
+     *
+     * @return the snapshot of the counters
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(ticks.sum(), chunksLoaded.sum(), flatChunksGenerated.sum(), chunksSent.sum(),
+                playersConnected.sum(), sums(packets), sums(events));
+    }
+
+    /**
+     * Runs an action and returns what changed during it.
+     *
+     * @param action the action to measure, which may tick the environment
+     * @return the difference of the counters before and after the action
+     */
+    public MetricsSnapshot measure(Runnable action) {
+        final MetricsSnapshot before = snapshot();
+        action.run();
+        return snapshot().delta(before);
+    }
+
+    private static <T> Map<Class<? extends T>, Long> sums(Map<Class<? extends T>, LongAdder> counters) {
+        final Map<Class<? extends T>, Long> result = new HashMap<>();
+        counters.forEach((type, counter) -> result.put(type, counter.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package net.minestom.testing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by the test environment, so that recordings of a test run can be broken
+ * down by test scenario and tick. Every event carries the scenario, which the {@link net.minestom.testing.extension.MicrotusExtension}
+ * sets to the running test.
+ */
+final class FlightEvents {
+    private static final String CATEGORY = "Cyano";
+
+    private FlightEvents() {
+    }
+
+    @Name("cyano.EnvTick")
+    @Label("Env Tick")
+    @Description("A tick of the server process driven by the test environment")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Tick extends Event {
+        @Label("Scenario")
+        String scenario;
+        @Label("Tick")
+        long tick;
+    }
+
+    @Name("cyano.ConnectPhase")
+    @Label("Connect Phase")
+    @Description("A phase of a test connection joining the server")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class ConnectPhase extends Event {
+        @Label("Scenario")
+        String scenario;
+        @Label("Player")
+        String player;
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("cyano.PacketDelivery")
+    @Label("Packet Delivery")
+    @Description("A packet delivered to a test connection")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class PacketDelivery extends Event {
+        @Label("Scenario")
+        String scenario;
+        @Label("Tick")
+        long tick;
+        @Label("Player")
+        String player;
+        @Label("Packet")
+        String packet;
+        @Label("Grouped")
+        boolean grouped;
+    }
+
+    @Name("cyano.CollectorCapture")
+    @Label("Collector Capture")
+    @Description("An element captured by a packet or event collector")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class CollectorCapture extends Event {
+        @Label("Scenario")
+        String scenario;
+        @Label("Tick")
+        long tick;
+        @Label("Collector")
+        String collector;
+        @Label("Element")
+        String element;
+    }
+}
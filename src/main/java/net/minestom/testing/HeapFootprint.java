@@ -0,0 +1,107 @@
+package net.minestom.testing;
+
+import java.lang.ref.Reference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An estimate of the retained heap of a number of objects, such as players, instances or entities.
+ * The used heap is read after garbage collections before and after the objects are created,
+ * so only what stays reachable after the creation is counted. The objects can be removed again once
+ * the second reading is done.
+ * <p>
+ * The estimate is only as precise as the garbage collector allows, it is best used with many objects
+ * and generous budgets:
+ *
+ * <pre>
+ * env.measurePlayerFootprint(instance, 100).assertPerObjectBelow(256 * 1024);
+ * </pre>
+ *
+ * @param count      the amount of created objects
+ * @param heapBefore the used heap in bytes before the creation
+ * @param heapAfter  the used heap in bytes after the creation
+ * @since 0.8.0
+ */
+public record HeapFootprint(int count, long heapBefore, long heapAfter) {
+    private static final int MAX_COLLECTIONS = 10;
+
+    /**
+     * Measures the retained heap of the objects created by the given action.
+     * Everything reachable from the returned value is kept alive until the measurement is done.
+     *
+     * @param count    the amount of objects the action creates
+     * @param creation creates the objects and returns them, or anything else keeping them reachable
+     * @return the measured footprint
+     */
+    public static HeapFootprint measure(int count, Supplier<?> creation) {
+        return measure(count, creation, _ -> {});
+    }
+
+    /**
+     * Measures the retained heap of the objects created by the given action, and removes them afterwards.
+     * Everything reachable from the created value is kept alive until the used heap was read a second time,
+     * then it is passed to the removal.
+     *
+     * @param count    the amount of objects the action creates
+     * @param creation creates the objects and returns them, or anything else keeping them reachable
+     * @param removal  removes the created objects, such as from the server they were added to
+     * @param <T>      the type of the created value
+     * @return the measured footprint
+     */
+    public static <T> HeapFootprint measure(int count, Supplier<? extends T> creation, Consumer<? super T> removal) {
+        if (count <= 0) throw new IllegalArgumentException("At least one object is required");
+        final long before = usedHeap();
+        final T created = creation.get();
+        final long after = usedHeap();
+        Reference.reachabilityFence(created);
+        removal.accept(created);
+        return new HeapFootprint(count, before, after);
+    }
+
+    /**
+     * Gets the retained heap of all created objects.
+     *
+     * @return the total footprint in bytes, which may be negative if unrelated objects were collected
+     */
+    public long total() {
+        return heapAfter - heapBefore;
+    }
+
+    /**
+     * Gets the average retained heap of a single object.
+     *
+     * @return the footprint per object in bytes
+     */
+    public long perObject() {
+        return total() / count;
+    }
+
+    /**
+     * Fails the test if a single object retains more heap than the given budget.
+     *
+     * @param bytes the maximum footprint per object in bytes
+     * @return this footprint
+     */
+    public HeapFootprint assertPerObjectBelow(long bytes) {
+        assertTrue(perObject() <= bytes, () -> "Footprint of " + (perObject() / 1024) + " KiB per object exceeds budget of "
+                + (bytes / 1024) + " KiB (" + count + " objects, " + (total() / 1024) + " KiB total)");
+        return this;
+    }
+
+    /**
+     * Collects garbage until the used heap stops shrinking.
+     */
+    static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < MAX_COLLECTIONS; i++) {
+            System.gc();
+            final long current = runtime.totalMemory() - runtime.freeMemory();
+            if (current >= used) return used;
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,39 @@
+package net.minestom.testing;
+
+import java.time.Duration;
+
+/**
+ * The cost of light computation in an instance, measured by
+ * {@link Env#measureLighting(net.minestom.server.instance.Instance, int, BlockWorkload, BlockWorkload, int)}.
+ *
+ * @param chunks     the amount of chunks loaded around the origin
+ * @param generation the duration of loading or generating the chunks
+ * @param lighting   the duration of computing the light of the loaded chunks
+ * @param placement  the cost of placing the blocks of the placement workload
+ * @param removal    the cost of removing the blocks of the removal workload
+ * @since 0.8.0
+ */
+public record LightingReport(int chunks, Duration generation, Duration lighting, Phase placement, Phase removal) {
+
+    /**
+     * Gets how many chunks were lit per second after they were loaded.
+     *
+     * @return the light computation throughput
+     */
+    public double chunksLitPerSecond() {
+        if (lighting.isZero()) return 0;
+        return chunks / (lighting.toNanos() / 1e9);
+    }
+
+    /**
+     * The cost of applying a block workload to a lit instance and sending the resulting light to a viewer.
+     *
+     * @param changes      the amount of block changes applied by the workload
+     * @param applyTime    the duration of applying the changes
+     * @param tickTime     the duration of the ticks after the changes
+     * @param lightUpdates the amount of light update packets received by the viewer
+     * @param chunkResends the amount of chunk data packets received by the viewer
+     */
+    public record Phase(long changes, Duration applyTime, TimingStats tickTime, long lightUpdates, long chunkResends) {
+    }
+}
@@ -0,0 +1,128 @@
+package net.minestom.testing;
+
+import net.minestom.server.event.Event;
+import net.minestom.server.network.packet.server.ServerPacket;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The counters of {@link EnvMetrics} at a point in time, or the difference between two points in time.
+ *
+ * @param ticks               the amount of ticks driven through the environment
+ * @param chunksLoaded        the amount of chunks loaded into instances, both from storage and generated
+ * @param flatChunksGenerated the amount of chunks generated by flat instances, which includes lit flat instances
+ * @param chunksSent          the amount of chunk data packets delivered to test connections
+ * @param playersConnected    the amount of test connections which joined the server
+ * @param packets             the packets delivered to test connections, by exact packet type
+ * @param events              the dispatched events, by exact event type
+ * @since 0.8.0
+ */
+public record MetricsSnapshot(long ticks, long chunksLoaded, long flatChunksGenerated, long chunksSent,
+                              long playersConnected,
+                              Map<Class<? extends ServerPacket>, Long> packets,
+                              Map<Class<? extends Event>, Long> events) {
+
+    public MetricsSnapshot {
+        packets = Map.copyOf(packets);
+        events = Map.copyOf(events);
+    }
+
+    /**
+     * Gets the total amount of delivered packets.
+     *
+     * @return the amount of packets
+     */
+    public long packetCount() {
+        return packets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Gets the amount of delivered packets of the given type or one of its subtypes.
+     *
+     * @param type the packet type
+     * @return the amount of packets
+     */
+    public long packetCount(Class<? extends ServerPacket> type) {
+        return count(packets, type);
+    }
+
+    /**
+     * Gets the total amount of dispatched events.
+     *
+     * @return the amount of events
+     */
+    public long eventCount() {
+        return events.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Gets the amount of dispatched events of the given type or one of its subtypes.
+     *
+     * @param type the event type, which may also be an interface such as {@code PlayerEvent}
+     * @return the amount of events
+     */
+    public long eventCount(Class<? extends Event> type) {
+        return count(events, type);
+    }
+
+    /**
+     * Computes what happened between an earlier snapshot and this one.
+     *
+     * @param earlier the earlier snapshot
+     * @return the difference of all counters
+     */
+    public MetricsSnapshot delta(MetricsSnapshot earlier) {
+        return new MetricsSnapshot(ticks - earlier.ticks,
+                chunksLoaded - earlier.chunksLoaded,
+                flatChunksGenerated - earlier.flatChunksGenerated,
+                chunksSent - earlier.chunksSent,
+                playersConnected - earlier.playersConnected,
+                subtract(packets, earlier.packets),
+                subtract(events, earlier.events));
+    }
+
+    /**
+     * Formats all counters as a human-readable summary, with packet and event types sorted by count.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        final StringBuilder builder = new StringBuilder()
+                .append("ticks: ").append(ticks)
+                .append("\nchunks loaded: ").append(chunksLoaded)
+                .append("\nflat chunks generated: ").append(flatChunksGenerated)
+                .append("\nchunks sent: ").append(chunksSent)
+                .append("\nplayers connected: ").append(playersConnected)
+                .append("\npackets: ").append(packetCount());
+        appendTypes(builder, packets);
+        builder.append("\nevents: ").append(eventCount());
+        appendTypes(builder, events);
+        return builder.toString();
+    }
+
+    private static <T> long count(Map<Class<? extends T>, Long> counts, Class<? extends T> type) {
+        long count = 0;
+        for (Map.Entry<Class<? extends T>, Long> entry : counts.entrySet()) {
+            if (type.isAssignableFrom(entry.getKey())) count += entry.getValue();
+        }
+        return count;
+    }
+
+    private static <T> Map<Class<? extends T>, Long> subtract(Map<Class<? extends T>, Long> current,
+                                                         Map<Class<? extends T>, Long> earlier) {
+        final Map<Class<? extends T>, Long> result = new HashMap<>();
+        current.forEach((type, count) -> {
+            final long delta = count - earlier.getOrDefault(type, 0L);
+            if (delta != 0) result.put(type, delta);
+        });
+        return result;
+    }
+
+    private static <T> void appendTypes(StringBuilder builder, Map<Class<? extends T>, Long> counts) {
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<Class<? extends T>, Long>comparingByValue().reversed())
+                .forEach(entry -> builder.append("\n  ").append(entry.getKey().getSimpleName())
+                        .append(": ").append(entry.getValue()));
+    }
+}
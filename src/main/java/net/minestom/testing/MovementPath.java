@@ -0,0 +1,80 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+
+import java.util.Random;
+
+/**
+ * Describes how players are moved by {@link Env#measureMovement(java.util.Collection, MovementPath, int)}.
+ * <p>
+ * A path computes the next position of a player from its current one, once per tick. Randomized paths are seeded
+ * so that a test always produces the same movement when its players are moved in the same order.
+ *
+ * @since 0.8.0
+ */
+@FunctionalInterface
+public interface MovementPath {
+
+    /**
+     * The distance a sprinting player covers in a tick.
+     */
+    double SPRINTING_SPEED = 0.28;
+
+    /**
+     * The distance a player gliding with an elytra covers in a tick while boosted by fireworks.
+     */
+    double ELYTRA_SPEED = 1.7;
+
+    /**
+     * Computes the position of a player for the given tick.
+     *
+     * @param position the current position of the player
+     * @param tick     the index of the upcoming tick
+     * @return the position to move the player to
+     */
+    Pos next(Pos position, int tick);
+
+    /**
+     * Moves the players in a straight line at a constant speed.
+     *
+     * @param direction the horizontal direction of the movement, which is normalized
+     * @param speed     the distance covered in a tick
+     * @return the path
+     */
+    static MovementPath straightLine(Vec direction, double speed) {
+        final Vec velocity = direction.withY(0).normalize().mul(speed);
+        return (position, _) -> position.add(velocity);
+    }
+
+    /**
+     * Moves the players at a constant speed, turning their heading by a random angle every tick.
+     *
+     * @param speed the distance covered in a tick
+     * @param turn  the standard deviation of the turn per tick, in degrees
+     * @param seed  the seed of the random turns
+     * @return the path
+     */
+    static MovementPath randomWalk(double speed, double turn, long seed) {
+        final Random random = new Random(seed);
+        return (position, _) -> {
+            final float yaw;
+            synchronized (random) {
+                yaw = (float) (position.yaw() + random.nextGaussian() * turn);
+            }
+            final Pos turned = position.withYaw(yaw).withPitch(0);
+            return turned.add(turned.direction().mul(speed));
+        };
+    }
+
+    /**
+     * Moves the players in a straight line at the speed of a boosted elytra flight,
+     * crossing a chunk border every few ticks.
+     *
+     * @param direction the horizontal direction of the flight, which is normalized
+     * @return the path
+     */
+    static MovementPath elytra(Vec direction) {
+        return straightLine(direction, ELYTRA_SPEED);
+    }
+}
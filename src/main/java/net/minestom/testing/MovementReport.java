@@ -0,0 +1,43 @@
+package net.minestom.testing;
+
+/**
+ * The server-side cost of moving a group of players, measured by
+ * {@link Env#measureMovement(java.util.Collection, MovementPath, int)}.
+ *
+ * @param players        the amount of moved players
+ * @param ticks          the amount of measured ticks
+ * @param tickTime       the duration of the measured ticks, including processing the movement of the players
+ * @param chunksLoaded   the amount of chunks loaded into instances, both from storage and generated
+ * @param chunksUnloaded the amount of chunks unloaded from instances
+ * @param chunksSent     the amount of chunks sent to the moved players
+ * @param chunksDropped  the amount of chunks the moved players were told to unload
+ * @param entitiesShown  the amount of entities spawned for the moved players
+ * @param entitiesHidden the amount of entities destroyed for the moved players
+ * @since 0.8.0
+ */
+public record MovementReport(int players, int ticks, TimingStats tickTime, long chunksLoaded, long chunksUnloaded,
+                             long chunksSent, long chunksDropped, long entitiesShown, long entitiesHidden) {
+
+    /**
+     * Gets the average amount of chunks sent to a single player in a single tick.
+     *
+     * @return the chunks sent per player per tick
+     */
+    public double chunksSentPerPlayerPerTick() {
+        return perPlayerPerTick(chunksSent);
+    }
+
+    /**
+     * Gets the average amount of entity view updates, both spawns and destructions, of a single player in a single tick.
+     *
+     * @return the entity view updates per player per tick
+     */
+    public double viewUpdatesPerPlayerPerTick() {
+        return perPlayerPerTick(entitiesShown + entitiesHidden);
+    }
+
+    private double perPlayerPerTick(long value) {
+        if (players == 0 || ticks == 0) return 0;
+        return (double) value / players / ticks;
+    }
+}
@@ -0,0 +1,70 @@
+package net.minestom.testing;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketRegistry;
+import net.minestom.server.network.packet.PacketVanilla;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.registry.Registries;
+
+/**
+ * Encodes packet bodies with the vanilla packet registry, without framing or compression.
+ */
+final class PacketCodec {
+
+    private PacketCodec() {
+    }
+
+    /**
+     * Encodes the body of a packet, excluding its id.
+     *
+     * @param registries the registries used to encode registry references
+     * @param state      the connection state the packet is sent in
+     * @param packet     the packet to encode
+     * @return the encoded body
+     */
+    static byte[] encode(Registries registries, ConnectionState state, ServerPacket packet) {
+        final PacketRegistry.PacketInfo<ServerPacket> info = registry(state).packetInfo(packet);
+        return NetworkBuffer.makeArray(info.serializer(), packet, registries);
+    }
+
+    /**
+     * Writes the body of a packet, excluding its id, to the given buffer.
+     *
+     * @param buffer the buffer to write to, whose registries are used to encode registry references
+     * @param state  the connection state the packet is sent in
+     * @param packet the packet to encode
+     */
+    static void write(NetworkBuffer buffer, ConnectionState state, ServerPacket packet) {
+        buffer.write(registry(state).packetInfo(packet).serializer(), packet);
+    }
+
+    /**
+     * Gets the id of a packet in the given connection state.
+     *
+     * @param state  the connection state the packet is sent in
+     * @param packet the packet
+     * @return the packet id
+     */
+    static int id(ConnectionState state, ServerPacket packet) {
+        return registry(state).packetInfo(packet).id();
+    }
+
+    /**
+     * Decodes a packet body previously produced by {@link #encode(Registries, ConnectionState, ServerPacket)}.
+     *
+     * @param registries the registries used to decode registry references
+     * @param state      the connection state the packet was sent in
+     * @param id         the id of the packet
+     * @param body       the encoded body
+     * @return the decoded packet
+     */
+    static ServerPacket decode(Registries registries, ConnectionState state, int id, byte[] body) {
+        final PacketRegistry.PacketInfo<ServerPacket> info = registry(state).packetInfo(id);
+        return NetworkBuffer.wrap(body, 0, body.length, registries).read(info.serializer());
+    }
+
+    private static PacketRegistry<ServerPacket> registry(ConnectionState state) {
+        return PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state);
+    }
+}
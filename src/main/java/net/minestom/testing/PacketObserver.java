@@ -0,0 +1,21 @@
+package net.minestom.testing;
+
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.player.PlayerConnection;
+
+/**
+ * Observes every packet delivered to a connection created by an {@link EnvImpl}.
+ */
+@FunctionalInterface
+interface PacketObserver {
+
+    /**
+     * Called on the sending thread for each delivered packet.
+     *
+     * @param connection the receiving connection
+     * @param sent       the packet as it was handed to the connection
+     * @param packet     the extracted server packet
+     */
+    void observe(PlayerConnection connection, SendablePacket sent, ServerPacket packet);
+}
@@ -0,0 +1,42 @@
+package net.minestom.testing;
+
+import net.minestom.server.instance.DynamicChunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.LightingChunk;
+
+/**
+ * A {@link DynamicChunk} which reports the start of its tick to a {@link TickProfiler}, which attributes the time
+ * until the next chunk of the same thread to it.
+ */
+final class ProfiledChunk extends DynamicChunk {
+    private final TickProfiler profiler;
+
+    ProfiledChunk(Instance instance, int chunkX, int chunkZ, TickProfiler profiler) {
+        super(instance, chunkX, chunkZ);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public void tick(long time) {
+        profiler.chunkTicking(this);
+        super.tick(time);
+    }
+
+    /**
+     * A {@link LightingChunk} which reports the start of its tick, which includes light updates, to a {@link TickProfiler}.
+     */
+    static final class Lit extends LightingChunk {
+        private final TickProfiler profiler;
+
+        Lit(Instance instance, int chunkX, int chunkZ, TickProfiler profiler) {
+            super(instance, chunkX, chunkZ);
+            this.profiler = profiler;
+        }
+
+        @Override
+        public void tick(long time) {
+            profiler.chunkTicking(this);
+            super.tick(time);
+        }
+    }
+}
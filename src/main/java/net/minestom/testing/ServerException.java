@@ -0,0 +1,19 @@
+package net.minestom.testing;
+
+/**
+ * An exception thrown on a server thread and captured by the test environment, together with where it happened.
+ * Only the thread and the tick are captured: a dispatcher thread ticks the chunks of several instances in one tick,
+ * and scheduler tasks are not tied to an instance, so the instance is not known reliably.
+ *
+ * @param thread    the name of the thread which threw the exception
+ * @param tick      the tick of the environment during which the exception was thrown
+ * @param exception the thrown exception
+ * @since 0.8.0
+ */
+public record ServerException(String thread, long tick, Throwable exception) {
+
+    @Override
+    public String toString() {
+        return "[" + thread + ", tick " + tick + "] " + exception;
+    }
+}
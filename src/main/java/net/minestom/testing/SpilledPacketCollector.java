@@ -0,0 +1,269 @@
+package net.minestom.testing;
+
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.registry.Registries;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A packet collector which stores the captured packets encoded in off-heap memory instead of keeping the packet
+ * objects, so that long captures do not grow the heap of the test.
+ * Packets are only decoded when they are read through {@link #collect()} or one of the assertions.
+ * <p>
+ * Every record consists of the connection state, the packet id and the length of the body, followed by the body.
+ * Records are appended to segments of {@value #SEGMENT_SIZE} bytes, larger packets get a segment of their own.
+ * The memory is released by {@link #close()}, which the connection calls when it is reset and when the environment
+ * is cleaned up, so the packets must be read before then.
+ *
+ * @param <T> the type of the collected packets
+ */
+final class SpilledPacketCollector<T extends ServerPacket> implements Collector<T> {
+    private static final int SEGMENT_SIZE = 1 << 20;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final ConnectionState[] STATES = ConnectionState.values();
+
+    private final Registries registries;
+    private final Class<T> type;
+    private final Collection<?> trackers;
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> segments = new ArrayList<>();
+    private final List<Long> limits = new ArrayList<>();
+    private final TypeIndex<ServerPacket> index = new TypeIndex<>(false);
+    private final NetworkBuffer buffer;
+    private byte[] scratch = new byte[1024];
+    // The packet type of every captured state and id, indexed by the state ordinal and then by the id
+    private final Class<?>[][] keyTypes = new Class<?>[STATES.length][0];
+    private MemorySegment current = MemorySegment.NULL;
+    private long offset;
+    private int count;
+    private long bytes;
+    private boolean closed;
+
+    SpilledPacketCollector(Registries registries, Class<T> type, Collection<?> trackers) {
+        this.registries = registries;
+        this.buffer = NetworkBuffer.resizableBuffer(registries);
+        this.type = type;
+        this.trackers = trackers;
+    }
+
+    /**
+     * Encodes a packet and appends it to the off-heap storage, if it has the type of this collector.
+     *
+     * @return true if the packet was captured, false if it has another type or the collector was closed
+     */
+    boolean capture(ConnectionState state, ServerPacket packet) {
+        if (!type.isInstance(packet)) return false;
+        final int id = PacketCodec.id(state, packet);
+        synchronized (this) {
+            if (closed) return false;
+            final Class<?>[] types = keyTypes[state.ordinal()];
+            if (id >= types.length || types[id] == null) recordKeyType(state.ordinal(), id, packet.getClass());
+            // The body is encoded into a buffer reused by every capture, so that capturing does not allocate
+            buffer.clear();
+            PacketCodec.write(buffer, state, packet);
+            final int length = (int) buffer.writeIndex();
+            if (scratch.length < length) scratch = new byte[Math.max(length, scratch.length * 2)];
+            buffer.copyTo(0, scratch, 0, length);
+
+            final long size = HEADER_SIZE + length;
+            if (offset + size > current.byteSize()) {
+                if (current != MemorySegment.NULL) limits.add(offset);
+                current = arena.allocate(Math.max(SEGMENT_SIZE, size));
+                segments.add(current);
+                offset = 0;
+            }
+            current.set(ValueLayout.JAVA_INT_UNALIGNED, offset, state.ordinal());
+            current.set(ValueLayout.JAVA_INT_UNALIGNED, offset + Integer.BYTES, id);
+            current.set(ValueLayout.JAVA_INT_UNALIGNED, offset + 2 * Integer.BYTES, length);
+            MemorySegment.copy(scratch, 0, current, ValueLayout.JAVA_BYTE, offset + HEADER_SIZE, length);
+            offset += size;
+            count++;
+            bytes += size;
+        }
+        index.record(packet);
+        return true;
+    }
+
+    private void recordKeyType(int state, int id, Class<?> packetType) {
+        Class<?>[] types = keyTypes[state];
+        if (id >= types.length) keyTypes[state] = types = Arrays.copyOf(types, Math.max(id + 1, types.length * 2));
+        types[id] = packetType;
+    }
+
+    /**
+     * Releases the off-heap memory of the captured packets. Packets sent afterwards are no longer captured,
+     * and reading the collector fails.
+     */
+    synchronized void close() {
+        if (closed) return;
+        closed = true;
+        arena.close();
+    }
+
+    /**
+     * Gets the amount of off-heap memory used by the captured packets.
+     */
+    synchronized long storedBytes() {
+        return bytes;
+    }
+
+    @Override
+    public List<T> collect() {
+        stopTracking();
+        return stream().toList();
+    }
+
+    @Override
+    public void assertCount(int count) {
+        stopTracking();
+        final int captured;
+        synchronized (this) {
+            captured = this.count;
+        }
+        assertEquals(count, captured, "Expected " + count + " element(s), got " + captured);
+    }
+
+    @Override
+    public void assertCount(int count, Predicate<? super T> predicate) {
+        stopTracking();
+        final long matchingCount = stream().filter(predicate).count();
+        assertEquals(count, matchingCount, "Expected " + count + " element(s) matching the predicate, got " + matchingCount);
+    }
+
+    @Override
+    public void assertAny() {
+        stopTracking();
+        assertFalse(stream().findAny().isEmpty(), "Expected at least 1 element, got none.");
+    }
+
+    @Override
+    public void assertAnyMatch(Predicate<T> predicate) {
+        stopTracking();
+        assertTrue(stream().anyMatch(predicate), "No elements matched the predicate");
+    }
+
+    @Override
+    public void assertNoneMatch(Predicate<T> predicate) {
+        stopTracking();
+        assertFalse(stream().anyMatch(predicate), () -> "Found elements that matched the predicate: "
+                + stream().filter(predicate).limit(10).toList());
+    }
+
+    @Override
+    public void assertAllMatch(Predicate<T> predicate) {
+        stopTracking();
+        assertTrue(stream().allMatch(predicate), () -> "Not all elements matched the predicate, first mismatch: "
+                + stream().filter(predicate.negate()).findFirst().orElse(null));
+    }
+
+    @Override
+    public long countOf(Class<? extends T> type) {
+        stopTracking();
+        return index.countOf(type);
+    }
+
+    @Override
+    public <P extends T> List<P> ofType(Class<P> type) {
+        stopTracking();
+        // Only the records of matching packet ids are decoded
+        final boolean[][] matches = new boolean[STATES.length][];
+        boolean any = false;
+        synchronized (this) {
+            for (int state = 0; state < STATES.length; state++) {
+                final Class<?>[] types = keyTypes[state];
+                matches[state] = new boolean[types.length];
+                for (int id = 0; id < types.length; id++) {
+                    if (types[id] != null && type.isAssignableFrom(types[id])) any = matches[state][id] = true;
+                }
+            }
+        }
+        if (!any) return List.of();
+        return stream((state, id) -> id < matches[state].length && matches[state][id]).map(type::cast).toList();
+    }
+
+    @Override
+    public Map<Class<?>, Long> histogram() {
+        stopTracking();
+        return index.histogram();
+    }
+
+    private void stopTracking() {
+        trackers.remove(this);
+    }
+
+    /**
+     * Decodes the packets captured so far one by one, in the order they were captured.
+     */
+    private Stream<T> stream() {
+        return stream((_, _) -> true);
+    }
+
+    /**
+     * Decodes the packets captured so far one by one, in the order they were captured, skipping the records
+     * whose state and id do not pass the filter without decoding them.
+     */
+    private Stream<T> stream(RecordFilter filter) {
+        final List<MemorySegment> segments;
+        final List<Long> limits;
+        final int count;
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("The off-heap memory of the collector was already released");
+            segments = List.copyOf(this.segments);
+            limits = new ArrayList<>(this.limits);
+            if (!segments.isEmpty()) limits.add(offset);
+            count = this.count;
+        }
+        final Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(count, Spliterator.ORDERED) {
+            private int segment;
+            private long position;
+            private int remaining = count;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (remaining > 0) {
+                    while (position >= limits.get(segment)) {
+                        segment++;
+                        position = 0;
+                    }
+                    final MemorySegment memory = segments.get(segment);
+                    final int state = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position);
+                    final int id = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position + Integer.BYTES);
+                    final int length = memory.get(ValueLayout.JAVA_INT_UNALIGNED, position + 2 * Integer.BYTES);
+                    final long body = position + HEADER_SIZE;
+                    position = body + length;
+                    remaining--;
+                    if (!filter.test(state, id)) continue;
+                    final byte[] bytes = memory.asSlice(body, length).toArray(ValueLayout.JAVA_BYTE);
+                    action.accept(type.cast(PacketCodec.decode(registries, STATES[state], id, bytes)));
+                    return true;
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @FunctionalInterface
+    private interface RecordFilter {
+        boolean test(int state, int id);
+    }
+}
@@ -14,6 +14,19 @@ import net.minestom.server.network.packet.server.ServerPacket;
  */
 public interface TestConnection {
 
+    /**
+     * Makes the player of this connection load chunks through the real chunk queue of the server instead of
+     * receiving each chunk immediately. Chunks are then sent in batches and rate limited like for a real client.
+     * The connection acknowledges each batch one tick after receiving it, requesting the given rate.
+     * <p>
+     * Must be called before {@link #connect(Instance, Pos)}.
+     *
+     * @param clientChunksPerTick the chunks per tick the simulated client requests when acknowledging a batch
+     * @return this connection
+     * @since 0.8.0
+     */
+    TestConnection useChunkQueue(float clientChunksPerTick);
+
     /**
      * Connects a player to the given instance at the specified position.
      *
@@ -33,6 +46,23 @@ public interface TestConnection {
         return connect(instance, Pos.ZERO);
     }
 
+    /**
+     * Disconnects the player of this connection and removes it from the server.
+     * The connection can then be connected again, which logs in a new player with the same game profile.
+     * Incoming trackers stay active across reconnects. Does nothing if the connection is not connected.
+     *
+     * @since 0.8.0
+     */
+    void disconnect();
+
+    /**
+     * Checks whether a player is currently connected through this connection.
+     *
+     * @return true if connected
+     * @since 0.8.0
+     */
+    boolean isConnected();
+
     /**
      * Tracks incoming packets of the specified type.
      *
@@ -42,6 +72,21 @@ public interface TestConnection {
      */
     <T extends ServerPacket> Collector<T> trackIncoming(Class<T> type);
 
+    /**
+     * Tracks incoming packets of the specified type, storing them encoded in off-heap memory instead of on the heap.
+     * The packets are decoded again when they are read through the collector, so long captures barely
+     * affect the garbage collection of the test.
+     * <p>
+     * The off-heap memory is released when the connection is reset by a shared environment and when the
+     * environment is cleaned up, after which the collector can no longer be read.
+     *
+     * @param type the class of the packet type to track
+     * @param <T>  the type of the packet
+     * @return a collector for the specified packet type
+     * @since 0.8.0
+     */
+    <T extends ServerPacket> Collector<T> trackIncomingOffHeap(Class<T> type);
+
     /**
      * Tracks incoming packets of the default type {@link ServerPacket}.
      *
@@ -11,37 +11,90 @@ import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.ChunkBatchFinishedPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.UnloadChunkPacket;
 import net.minestom.server.network.player.GameProfile;
 import net.minestom.server.network.player.PlayerConnection;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 final class TestConnectionImpl implements TestConnection {
+    private final EnvImpl env;
     private final ServerProcess process;
     private final GameProfile gameProfile;
-    private final PlayerConnectionImpl playerConnection = new PlayerConnectionImpl();
+    private volatile PlayerConnectionImpl playerConnection = new PlayerConnectionImpl();
 
     private final AtomicBoolean connected = new AtomicBoolean(false);
+    private volatile float clientChunksPerTick = Float.NaN;
+    private volatile LoginTimes lastLogin = LoginTimes.NONE;
 
     private final List<IncomingCollector<ServerPacket>> incomingTrackers = new CopyOnWriteArrayList<>();
+    private final List<SpilledPacketCollector<?>> spilledTrackers = new CopyOnWriteArrayList<>();
+    // Every off-heap collector, including those which stopped tracking, until its memory is released
+    private final List<SpilledPacketCollector<?>> spilledCollectors = new CopyOnWriteArrayList<>();
+    private final Set<Long> loadedChunks = ConcurrentHashMap.newKeySet();
 
-    TestConnectionImpl(Env env, GameProfile gameProfile) {
+    TestConnectionImpl(EnvImpl env, GameProfile gameProfile) {
+        this.env = env;
         this.process = env.process();
         this.gameProfile = gameProfile;
     }
 
+    static TestConnectionImpl of(Player player) {
+        if (!(player.getPlayerConnection() instanceof PlayerConnectionImpl connection)) {
+            throw new IllegalArgumentException("Player " + player.getUsername() + " was not created by a test environment");
+        }
+        return connection.owner();
+    }
+
+    @Override
+    public TestConnection useChunkQueue(float clientChunksPerTick) {
+        if (connected.get()) throw new IllegalStateException("Chunk sending must be selected before connecting");
+        if (!(clientChunksPerTick > 0)) throw new IllegalArgumentException("Chunks per tick must be positive");
+        this.clientChunksPerTick = clientChunksPerTick;
+        return this;
+    }
+
+    boolean queuedChunks() {
+        return !Float.isNaN(clientChunksPerTick);
+    }
+
+    /**
+     * Checks whether the client of this connection has received every chunk within the given square radius.
+     */
+    boolean hasChunksAround(int chunkX, int chunkZ, int radius) {
+        for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                if (!loadedChunks.contains(chunkIndex(x, z))) return false;
+            }
+        }
+        return true;
+    }
+
+    private static long chunkIndex(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
     @Override
     public Player connect(Instance instance, Pos pos) {
         if (!connected.compareAndSet(false, true)) {
             throw new IllegalStateException("Already connected");
         }
 
+        // Every login uses a fresh connection, like a reconnecting client would
+        final PlayerConnectionImpl playerConnection = new PlayerConnectionImpl();
+        this.playerConnection = playerConnection;
+        final long[] phases = new long[3];
         var player = process.connection().createPlayer(playerConnection, gameProfile);
         player.eventNode().addListener(AsyncPlayerConfigurationEvent.class, event -> {
             event.setSpawningInstance(instance);
@@ -54,17 +107,91 @@ final class TestConnectionImpl implements TestConnection {
             // `isFirstConfig` is set to false in order to not block the thread
             // waiting for known packs.
             // The consequence is that registry packets cannot be listened to.
+            var configuration = beginPhase();
+            long start = System.nanoTime();
             process.connection().doConfiguration(player, false);
+            phases[0] = System.nanoTime() - start;
+            commitPhase(configuration, "configuration");
+            var transition = beginPhase();
+            start = System.nanoTime();
             process.connection().transitionConfigToPlay(player);
+            phases[1] = System.nanoTime() - start;
+            commitPhase(transition, "transition");
             future.complete(player);
         });
         future.join();
+        var spawn = beginPhase();
+        final long start = System.nanoTime();
         playerConnection.setClientState(ConnectionState.PLAY);
         playerConnection.setServerState(ConnectionState.PLAY);
         process.connection().updateWaitingPlayers();
+        phases[2] = System.nanoTime() - start;
+        commitPhase(spawn, "spawn");
+        this.lastLogin = new LoginTimes(phases[0], phases[1], phases[2]);
+        final EnvMetrics metrics = env.activeMetrics();
+        if (metrics != null) metrics.recordPlayerConnected();
         return player;
     }
 
+    private static FlightEvents.ConnectPhase beginPhase() {
+        var event = new FlightEvents.ConnectPhase();
+        event.begin();
+        return event;
+    }
+
+    private void commitPhase(FlightEvents.ConnectPhase event, String phase) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.scenario = env.scenario();
+            event.player = gameProfile.name();
+            event.phase = phase;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the time spent in each phase of the latest login of this connection.
+     */
+    LoginTimes lastLogin() {
+        return lastLogin;
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected.get();
+    }
+
+    @Override
+    public void disconnect() {
+        if (!connected.compareAndSet(true, false)) return;
+        final PlayerConnectionImpl playerConnection = this.playerConnection;
+        playerConnection.online = false;
+        this.loadedChunks.clear();
+        final Player player = playerConnection.getPlayer();
+        if (player == null) return;
+        player.remove();
+        process.connection().removePlayer(playerConnection);
+    }
+
+    /**
+     * Removes the player of this connection from the server, stops all incoming trackers and releases
+     * the memory of the off-heap collectors.
+     */
+    void reset() {
+        this.incomingTrackers.clear();
+        this.spilledTrackers.clear();
+        releaseOffHeap();
+        disconnect();
+    }
+
+    /**
+     * Releases the off-heap memory of every collector created by {@link #trackIncomingOffHeap(Class)}.
+     */
+    void releaseOffHeap() {
+        this.spilledCollectors.forEach(SpilledPacketCollector::close);
+        this.spilledCollectors.clear();
+    }
+
     @Override
     public <T extends ServerPacket> Collector<T> trackIncoming(Class<T> type) {
         var tracker = new IncomingCollector<>(type);
@@ -72,15 +199,51 @@ final class TestConnectionImpl implements TestConnection {
         return tracker;
     }
 
+    @Override
+    public <T extends ServerPacket> Collector<T> trackIncomingOffHeap(Class<T> type) {
+        var tracker = new SpilledPacketCollector<>(process, type, spilledTrackers);
+        this.spilledTrackers.add(tracker);
+        this.spilledCollectors.add(tracker);
+        return tracker;
+    }
+
     final class PlayerConnectionImpl extends PlayerConnection {
-        private boolean online = true;
+        private volatile boolean online = true;
 
         @Override
         public void sendPacket(SendablePacket packet) {
+            // Packets still sent to a previous login of this connection are dropped
+            if (this != playerConnection) return;
             final var serverPacket = this.extractPacket(packet);
+            if (serverPacket == null) return;
+            switch (serverPacket) {
+                case ChunkDataPacket data -> loadedChunks.add(chunkIndex(data.chunkX(), data.chunkZ()));
+                case UnloadChunkPacket unload -> loadedChunks.remove(chunkIndex(unload.chunkX(), unload.chunkZ()));
+                case ChunkBatchFinishedPacket _ -> acknowledgeChunkBatch();
+                default -> {
+                }
+            }
             for (var tracker : incomingTrackers) {
-                if (tracker.type.isAssignableFrom(serverPacket.getClass())) tracker.packets.add(serverPacket);
+                if (tracker.type.isAssignableFrom(serverPacket.getClass())) tracker.capture(serverPacket);
             }
+            for (var tracker : spilledTrackers) {
+                if (tracker.capture(getServerState(), serverPacket)) env.captured("offheap", serverPacket);
+            }
+            env.observePacket(this, packet, serverPacket);
+        }
+
+        TestConnectionImpl owner() {
+            return TestConnectionImpl.this;
+        }
+
+        /**
+         * Acknowledges a chunk batch like a client would, one tick after it was received.
+         */
+        private void acknowledgeChunkBatch() {
+            final Player player = getPlayer();
+            final float chunksPerTick = clientChunksPerTick;
+            if (player == null || Float.isNaN(chunksPerTick)) return;
+            player.scheduler().scheduleNextTick(() -> player.onChunkBatchReceived(chunksPerTick));
         }
 
         private ServerPacket extractPacket(final SendablePacket packet) {
@@ -114,18 +277,56 @@ final class TestConnectionImpl implements TestConnection {
         }
     }
 
+    /**
+     * The nanoseconds spent in each phase of a login.
+     */
+    record LoginTimes(long configuration, long transition, long spawn) {
+        static final LoginTimes NONE = new LoginTimes(0, 0, 0);
+
+        long total() {
+            return configuration + transition + spawn;
+        }
+    }
+
     final class IncomingCollector<T extends ServerPacket> implements Collector<T> {
         private final Class<T> type;
-        private final List<T> packets = new CopyOnWriteArrayList<>();
+        private final TypeIndex<T> index = new TypeIndex<>(true);
 
         public IncomingCollector(Class<T> type) {
             this.type = type;
         }
 
+        void capture(T packet) {
+            if (index.record(packet)) env.captured("incoming", packet);
+        }
+
         @Override
         public List<T> collect() {
+            stopTracking();
+            return index.all();
+        }
+
+        @Override
+        public long countOf(Class<? extends T> type) {
+            stopTracking();
+            return index.countOf(type);
+        }
+
+        @Override
+        public <P extends T> List<P> ofType(Class<P> type) {
+            stopTracking();
+            return index.ofType(type);
+        }
+
+        @Override
+        public Map<Class<?>, Long> histogram() {
+            stopTracking();
+            return index.histogram();
+        }
+
+        private void stopTracking() {
             incomingTrackers.remove(this);
-            return List.copyOf(packets);
+            index.freeze();
         }
     }
 }
\ No newline at end of file
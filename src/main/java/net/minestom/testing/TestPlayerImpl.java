@@ -13,6 +13,7 @@ import net.minestom.server.network.player.PlayerConnection;
  * @since 1.0.0
  */
 public class TestPlayerImpl extends Player {
+    private final boolean queuedChunks;
 
     /**
      * Creates a new test player.
@@ -21,16 +22,33 @@ public class TestPlayerImpl extends Player {
      * @param gameProfile      the player's game profile
      */
     public TestPlayerImpl(PlayerConnection playerConnection, GameProfile gameProfile) {
+        this(playerConnection, gameProfile, false);
+    }
+
+    /**
+     * Creates a new test player.
+     *
+     * @param playerConnection the player's connection
+     * @param gameProfile      the player's game profile
+     * @param queuedChunks     whether chunks are sent through the real chunk queue instead of immediately
+     * @since 0.8.0
+     */
+    public TestPlayerImpl(PlayerConnection playerConnection, GameProfile gameProfile, boolean queuedChunks) {
         super(playerConnection, gameProfile);
+        this.queuedChunks = queuedChunks;
     }
 
     /**
-     * Send data from a chunk immediately.
+     * Send data from a chunk immediately, unless the player uses the real chunk queue.
      *
      * @param chunk the chunk to send
      */
     @Override
     public void sendChunk(Chunk chunk) {
+        if (queuedChunks) {
+            super.sendChunk(chunk);
+            return;
+        }
         // Send immediately
         sendPacket(chunk.getFullDataPacket());
     }
@@ -0,0 +1,201 @@
+package net.minestom.testing;
+
+import net.minestom.server.ServerProcess;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Measures every tick driven through an {@link Env} and fails the test when a tick exceeds the configured budget.
+ * <p>
+ * The profiling is kept out of fast ticks, so that it does not make the budget stricter than it is without the
+ * profiler. Each dispatcher thread attributes the time from the start of a {@link ProfiledChunk} tick to the start of
+ * the next one to that chunk, so the per-chunk figures include the entities ticked after their chunk. The span of the
+ * last chunk of a thread ends with the tick. Scheduler tasks run on the thread which ticks the process and are
+ * estimated by sampling its stack, which only starts once the tick has used half of its budget.
+ * Scheduler tasks of instances and entities which run on dispatcher threads are not sampled.
+ */
+final class TickProfiler implements AutoCloseable {
+    private static final long SAMPLE_INTERVAL = TimeUnit.MICROSECONDS.toNanos(500);
+
+    private final ServerProcess process;
+    private final long budget;
+    private final Thread sampler;
+
+    private final ThreadLocal<Span> spans = ThreadLocal.withInitial(Span::new);
+    private final Set<Span> openSpans = ConcurrentHashMap.newKeySet();
+    private final Map<Chunk, LongAdder> chunkTimes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> taskSamples = new ConcurrentHashMap<>();
+
+    private volatile long tick;
+    private volatile long sampleFrom;
+    private volatile @Nullable Thread sampled;
+
+    TickProfiler(ServerProcess process, Duration budget) {
+        this.process = process;
+        this.budget = budget.toNanos();
+        this.sampler = Thread.ofPlatform().daemon().name("cyano-tick-sampler").start(this::sample);
+    }
+
+    ProfiledChunk createChunk(Instance instance, int chunkX, int chunkZ) {
+        return new ProfiledChunk(instance, chunkX, chunkZ, this);
+    }
+
+    ProfiledChunk.Lit createLitChunk(Instance instance, int chunkX, int chunkZ) {
+        return new ProfiledChunk.Lit(instance, chunkX, chunkZ, this);
+    }
+
+    /**
+     * Ticks the process once and fails if the tick took longer than the budget.
+     */
+    void tick() {
+        final long tickId = this.tick + 1;
+        this.tick = tickId;
+        this.chunkTimes.clear();
+        this.taskSamples.clear();
+
+        final long start = System.nanoTime();
+        this.sampleFrom = start + budget / 2;
+        this.sampled = Thread.currentThread();
+        LockSupport.unpark(sampler);
+        try {
+            process.ticker().tick(start);
+        } finally {
+            this.sampled = null;
+        }
+        final long end = System.nanoTime();
+        closeSpans(tickId, end);
+        final long duration = end - start;
+        if (duration > budget) fail(report(tickId, duration));
+    }
+
+    /**
+     * Called by a {@link ProfiledChunk} before it ticks, closing the span of the previous chunk of the same thread.
+     */
+    void chunkTicking(Chunk chunk) {
+        final long now = System.nanoTime();
+        final Span span = spans.get();
+        final long tickId = this.tick;
+        if (span.tick == tickId && span.chunk != null) {
+            record(span.chunk, now - span.start);
+        } else {
+            span.tick = tickId;
+            openSpans.add(span);
+        }
+        span.chunk = chunk;
+        span.start = now;
+    }
+
+    /**
+     * Closes the spans of the last chunk of every dispatcher thread, which have all finished the tick by now.
+     */
+    private void closeSpans(long tickId, long end) {
+        for (Span span : openSpans) {
+            if (span.tick == tickId && span.chunk != null) record(span.chunk, end - span.start);
+            span.chunk = null;
+        }
+        openSpans.clear();
+    }
+
+    private void record(Chunk chunk, long time) {
+        chunkTimes.computeIfAbsent(chunk, _ -> new LongAdder()).add(time);
+    }
+
+    private void sample() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Thread target = this.sampled;
+            if (target == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            final long wait = sampleFrom - System.nanoTime();
+            if (wait > 0) {
+                // Fast ticks are never paused by taking their stack
+                LockSupport.parkNanos(this, wait);
+                continue;
+            }
+            final String task = schedulerTask(target.getStackTrace());
+            if (task != null) taskSamples.merge(task, 1, Integer::sum);
+            LockSupport.parkNanos(SAMPLE_INTERVAL);
+        }
+    }
+
+    /**
+     * Finds the frame of the code run by the scheduler, which is the closest frame above the scheduler that belongs
+     * neither to the server nor to the JDK. Frames of this library and of tests count as task code.
+     */
+    private static @Nullable String schedulerTask(StackTraceElement[] stack) {
+        StackTraceElement candidate = null;
+        for (StackTraceElement element : stack) {
+            final String className = element.getClassName();
+            if (className.startsWith("net.minestom.server.timer.")) {
+                return candidate != null ? candidate.toString() : null;
+            }
+            if (!className.startsWith("net.minestom.server.") && !className.startsWith("java.")
+                    && !className.startsWith("jdk.") && !className.startsWith("sun.")) {
+                candidate = element;
+            }
+        }
+        return null;
+    }
+
+    private String report(long tickId, long duration) {
+        final StringBuilder builder = new StringBuilder()
+                .append("Tick ").append(tickId).append(" took ").append(millis(duration))
+                .append(", exceeding the budget of ").append(millis(budget));
+
+        final Map<Instance, Long> instanceTimes = new HashMap<>();
+        final Map<Instance, Integer> instanceChunks = new HashMap<>();
+        chunkTimes.forEach((chunk, time) -> {
+            instanceTimes.merge(chunk.getInstance(), time.sum(), Long::sum);
+            instanceChunks.merge(chunk.getInstance(), 1, Integer::sum);
+        });
+        instanceTimes.entrySet().stream().max(Map.Entry.comparingByValue()).ifPresent(entry ->
+                builder.append("\n  slowest instance: ").append(entry.getKey().getUuid())
+                        .append(" (").append(millis(entry.getValue())).append(" over ")
+                        .append(instanceChunks.get(entry.getKey())).append(" chunk(s))"));
+
+        chunkTimes.entrySet().stream().max(Comparator.comparingLong(entry -> entry.getValue().sum())).ifPresent(entry -> {
+            final Chunk chunk = entry.getKey();
+            builder.append("\n  slowest chunk: ").append(chunk.getInstance().getUuid())
+                    .append(" [").append(chunk.getChunkX()).append(", ").append(chunk.getChunkZ()).append("] (")
+                    .append(millis(entry.getValue().sum())).append(")");
+        });
+
+        taskSamples.entrySet().stream().max(Map.Entry.comparingByValue()).ifPresent(entry ->
+                builder.append("\n  slowest scheduler task: ").append(entry.getKey())
+                        .append(" (~").append(millis(entry.getValue() * SAMPLE_INTERVAL)).append(" sampled)"));
+        return builder.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f ms", nanos / 1_000_000d);
+    }
+
+    @Override
+    public void close() {
+        sampler.interrupt();
+    }
+
+    /**
+     * The chunk a dispatcher thread is currently ticking, together with its entities.
+     */
+    private static final class Span {
+        private long tick;
+        private @Nullable Chunk chunk;
+        private long start;
+    }
+}
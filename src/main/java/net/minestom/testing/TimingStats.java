@@ -0,0 +1,52 @@
+package net.minestom.testing;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * A summary of measured durations, such as tick times or latencies, taken during a test.
+ *
+ * @param count the number of measured samples
+ * @param min   the shortest sample
+ * @param mean  the arithmetic mean of all samples
+ * @param p50   the median sample
+ * @param p95   the 95th percentile
+ * @param p99   the 99th percentile
+ * @param max   the longest sample
+ * @since 0.8.0
+ */
+public record TimingStats(int count, Duration min, Duration mean, Duration p50, Duration p95, Duration p99,
+                          Duration max) {
+
+    /**
+     * An empty summary without any samples.
+     */
+    public static final TimingStats EMPTY = new TimingStats(0, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+            Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    /**
+     * Summarizes the given samples.
+     *
+     * @param nanos the samples in nanoseconds, the array is not modified
+     * @return the summary of the samples
+     */
+    public static TimingStats of(long... nanos) {
+        if (nanos.length == 0) return EMPTY;
+        final long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long sample : sorted) total += sample;
+        return new TimingStats(sorted.length,
+                Duration.ofNanos(sorted[0]),
+                Duration.ofNanos(total / sorted.length),
+                Duration.ofNanos(percentile(sorted, 0.50)),
+                Duration.ofNanos(percentile(sorted, 0.95)),
+                Duration.ofNanos(percentile(sorted, 0.99)),
+                Duration.ofNanos(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+}
@@ -0,0 +1,136 @@
+package net.minestom.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * Counts, and optionally stores, the elements captured by a {@link Collector} by their concrete type,
+ * so that per-type queries only visit the distinct types instead of every element.
+ * <p>
+ * When the elements are stored, the per-type lists are their only copy. The capture order across types is kept
+ * as the index of the type of every element, so that all elements can still be read in the order they were captured.
+ * <p>
+ * Once the collector stops tracking, it {@link #freeze() freezes} the index. Elements which arrive later,
+ * such as from a server thread which was still capturing, are dropped, so the lists returned by the queries
+ * never change while the caller reads them.
+ *
+ * @param <T> the type of the indexed elements
+ */
+final class TypeIndex<T> {
+    private final boolean indexElements;
+    // All fields are guarded by this index
+    private final Map<Class<?>, Integer> typeIds = new HashMap<>();
+    private final List<Class<?>> types = new ArrayList<>();
+    private final List<List<T>> elements = new ArrayList<>();
+    private long[] counts = new long[4];
+    private int[] order;
+    private int size;
+    private boolean frozen;
+
+    /**
+     * Creates a new index.
+     *
+     * @param indexElements whether the elements are kept per type, or only counted
+     */
+    TypeIndex(boolean indexElements) {
+        this.indexElements = indexElements;
+        this.order = indexElements ? new int[16] : new int[0];
+    }
+
+    /**
+     * Counts an element, and stores it if the index keeps elements.
+     *
+     * @return true if the element was recorded, false if the index is frozen
+     */
+    synchronized boolean record(T element) {
+        if (frozen) return false;
+        final Class<?> type = element.getClass();
+        Integer id = typeIds.get(type);
+        if (id == null) {
+            id = types.size();
+            typeIds.put(type, id);
+            types.add(type);
+            if (indexElements) elements.add(new ArrayList<>());
+            if (id == counts.length) counts = Arrays.copyOf(counts, id * 2);
+        }
+        counts[id]++;
+        if (indexElements) {
+            elements.get(id).add(element);
+            if (size == order.length) order = Arrays.copyOf(order, size * 2);
+            order[size++] = id;
+        }
+        return true;
+    }
+
+    /**
+     * Stops recording, so that the elements returned by the queries no longer change.
+     */
+    synchronized void freeze() {
+        frozen = true;
+    }
+
+    synchronized long countOf(Class<?> type) {
+        long count = 0;
+        for (int id = 0; id < types.size(); id++) {
+            if (type.isAssignableFrom(types.get(id))) count += counts[id];
+        }
+        return count;
+    }
+
+    synchronized Map<Class<?>, Long> histogram() {
+        final Map<Class<?>, Long> histogram = new HashMap<>();
+        for (int id = 0; id < types.size(); id++) histogram.put(types.get(id), counts[id]);
+        return histogram;
+    }
+
+    /**
+     * Gets all stored elements in capture order.
+     */
+    synchronized List<T> all() {
+        return Collections.unmodifiableList(merge(_ -> true));
+    }
+
+    /**
+     * Gets the stored elements of the given type in capture order. When they share one concrete type,
+     * the list of that type is returned as an unmodifiable view, which is stable once the index is frozen.
+     *
+     * @param type the type of the elements
+     * @return the matching elements
+     */
+    @SuppressWarnings("unchecked")
+    synchronized <P> List<P> ofType(Class<P> type) {
+        final boolean[] matches = new boolean[types.size()];
+        int matching = 0;
+        int last = -1;
+        for (int id = 0; id < matches.length; id++) {
+            if (type.isAssignableFrom(types.get(id))) {
+                matches[id] = true;
+                matching++;
+                last = id;
+            }
+        }
+        if (matching == 0) return List.of();
+        if (matching == 1) {
+            // Every element of the only matching concrete type is an instance of the requested type
+            final List<P> list = (List<P>) elements.get(last);
+            return frozen ? Collections.unmodifiableList(list) : List.copyOf(list);
+        }
+        return Collections.unmodifiableList((List<P>) merge(id -> matches[id]));
+    }
+
+    private List<T> merge(IntPredicate filter) {
+        final int[] cursors = new int[types.size()];
+        final List<T> merged = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = order[i];
+            final int position = cursors[id]++;
+            if (filter.test(id)) merged.add(elements.get(id).get(position));
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,52 @@
+package net.minestom.testing;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+
+import java.util.Map;
+
+/**
+ * The cost of keeping a group of viewers up to date, measured by
+ * {@link Env#measureViewerCost(java.util.Collection, int, java.util.function.ObjIntConsumer)}.
+ *
+ * @param viewers       the amount of measured viewers
+ * @param ticks         the amount of measured ticks
+ * @param tickTime      the duration of the measured ticks
+ * @param packetsByType the packets received by all viewers, grouped by packet type
+ * @since 0.8.0
+ */
+public record ViewerCost(int viewers, int ticks, TimingStats tickTime,
+                         Map<Class<? extends ServerPacket>, Long> packetsByType) {
+
+    public ViewerCost {
+        packetsByType = Map.copyOf(packetsByType);
+    }
+
+    /**
+     * Gets the total amount of packets received by all viewers.
+     *
+     * @return the amount of packets
+     */
+    public long packets() {
+        return packetsByType.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Gets the amount of packets of a type received by all viewers.
+     *
+     * @param type the packet type
+     * @return the amount of packets of exactly that type
+     */
+    public long packets(Class<? extends ServerPacket> type) {
+        return packetsByType.getOrDefault(type, 0L);
+    }
+
+    /**
+     * Gets the average amount of packets a single viewer received in a single tick.
+     *
+     * @return the packets per viewer per tick
+     */
+    public double packetsPerViewerPerTick() {
+        if (viewers == 0 || ticks == 0) return 0;
+        return (double) packets() / viewers / ticks;
+    }
+}
@@ -0,0 +1,50 @@
+package net.minestom.testing.extension;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which broadcast mode a test expects the packets sent to the viewers of an entity or instance to use.
+ * <p>
+ * Minestom reads {@code minestom.grouped-packet} once per JVM and enables grouping by default, so the mode cannot be
+ * selected by a test. Tests whose mode differs from the one of the JVM are skipped. The {@code testIndividualBroadcast}
+ * task of this project runs the broadcast tests again in a JVM started with {@code -Dminestom.grouped-packet=false},
+ * so that both modes are covered and can be compared.
+ * <p>
+ * The accumulating viewable packet storage used by socket connections writes raw buffers which test connections
+ * cannot receive, so it stays disabled in both modes. {@link Mode#GROUPED} exercises the shared packet path
+ * viewable broadcasts fall back to, where one prepared packet is handed to every viewer.
+ *
+ * @since 0.8.0
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface BroadcastMode {
+
+    /**
+     * The broadcast mode to use.
+     *
+     * @return the mode
+     */
+    Mode value();
+
+    /**
+     * The available broadcast modes.
+     */
+    enum Mode {
+        /**
+         * Grouping is disabled: the same {@link net.minestom.server.network.packet.server.ServerPacket} instance is
+         * handed to every viewer, and each connection encodes it on its own.
+         */
+        INDIVIDUAL,
+        /**
+         * A broadcast is wrapped once into a prepared packet, which is encoded once and shared by all viewers.
+         * This is the default of Minestom.
+         */
+        GROUPED
+    }
+}
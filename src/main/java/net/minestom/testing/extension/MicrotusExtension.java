@@ -1,11 +1,19 @@
 package net.minestom.testing.extension;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.testing.EnvImpl;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.extension.*;
 import org.junit.jupiter.api.extension.support.TypeBasedParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
 import net.minestom.testing.Env;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * The {@link MicrotusExtension} class extends {@link TypeBasedParameterResolver<Env>} and implements {@link InvocationInterceptor}.
  * This extension is used to resolve parameters of type {@link Env} and to intercept test method invocations.
@@ -13,12 +21,13 @@ import net.minestom.testing.Env;
  * @since 1.5.0
  * @version 1.1.0
  */
-public class MicrotusExtension extends TypeBasedParameterResolver<Env> implements BeforeEachCallback, AfterEachCallback {
+public class MicrotusExtension extends TypeBasedParameterResolver<Env> implements BeforeEachCallback, AfterEachCallback, AfterAllCallback {
 
     private static final String ENV_KEY = "minestom.env";
 
     /**
      * Resolves the parameter of type {@link Env}.
+     * For classes annotated with {@link SharedEnv}, the environment is shared by all tests of the class.
      *
      * @param parameterContext the context for the parameter for which an argument should be resolved
      * @param extensionContext the extension context for the {@code Executable} about to be invoked
@@ -27,27 +36,102 @@ public class MicrotusExtension extends TypeBasedParameterResolver<Env> implement
      */
     @Override
     public Env resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
-        return extensionContext.getStore(ExtensionContext.Namespace.create(getClass()))
-                .getOrComputeIfAbsent(ENV_KEY,
-                        key -> new EnvImpl(MinecraftServer.updateProcess()),
+        ExtensionContext owner = isShared(extensionContext) ? classContext(extensionContext) : extensionContext;
+        return store(owner).getOrComputeIfAbsent(ENV_KEY,
+                        key -> createEnv(extensionContext),
                         EnvImpl.class);
     }
 
+    private static EnvImpl createEnv(ExtensionContext context) {
+        EnvImpl env = new EnvImpl(MinecraftServer.updateProcess());
+        configure(env, context);
+        return env;
+    }
+
+    private static void configure(EnvImpl env, ExtensionContext context) {
+        env.scenario(scenarioName(context));
+        findAnnotation(context, TickBudget.class).ifPresent(budget ->
+                env.enforceTickBudget(Duration.of(budget.value(), budget.unit().toChronoUnit())));
+    }
+
+    private static String scenarioName(ExtensionContext context) {
+        String name = context.getTestClass().map(Class::getSimpleName).orElse(context.getDisplayName());
+        Optional<String> method = context.getTestMethod().map(Method::getName);
+        if (method.isEmpty()) return name;
+        name += "#" + method.get();
+        // Parameterized and repeated invocations are named after their arguments
+        return context.getDisplayName().startsWith(method.get()) ? name : name + " " + context.getDisplayName();
+    }
+
+    private static <A extends Annotation> Optional<A> findAnnotation(ExtensionContext context, Class<A> type) {
+        // Also finds meta-annotations, and annotations on the enclosing classes of nested test classes
+        return AnnotationSupport.findAnnotation(context.getTestMethod(), type)
+                .or(() -> context.getTestClass().flatMap(testClass ->
+                        AnnotationSupport.findAnnotation(testClass, type, context.getEnclosingTestClasses())));
+    }
+
     /**
      * This method is called before each test method execution to set up the environment.
-     * It sets the system property "minestom.viewable-packet" to "false".
+     * It sets the system property "minestom.viewable-packet" to "false" and, if a {@link BroadcastMode} is present,
+     * skips the test when the JVM runs with the other mode.
+     * A shared environment marks its current state as the baseline to reset to after the test.
      *
      * @param context the extension context for the test method about to be executed
      */
     @Override
     public void beforeEach(ExtensionContext context) {
         System.setProperty("minestom.viewable-packet", "false");
+        Optional<BroadcastMode> broadcastMode = findAnnotation(context, BroadcastMode.class);
+        if (broadcastMode.isPresent()) {
+            // The flag is read once per JVM, so the mode can only be checked, not selected
+            boolean grouped = broadcastMode.get().value() == BroadcastMode.Mode.GROUPED;
+            if (ServerFlag.GROUPED_PACKET != grouped) {
+                Assumptions.abort("Broadcast mode " + broadcastMode.get().value()
+                        + " needs a JVM started with -Dminestom.grouped-packet=" + grouped);
+            }
+        }
+
+        if (!isShared(context)) return;
+        EnvImpl env = store(classContext(context)).get(ENV_KEY, EnvImpl.class);
+        if (env != null) {
+            env.markBaseline();
+            configure(env, context);
+        }
     }
 
     @Override
     public void afterEach(ExtensionContext context) {
-        ExtensionContext.Store store = context.getStore(ExtensionContext.Namespace.create(getClass()));
-        EnvImpl env = store.remove(ENV_KEY, EnvImpl.class);
+        if (isShared(context)) {
+            EnvImpl env = store(classContext(context)).get(ENV_KEY, EnvImpl.class);
+            if (env != null) env.reset();
+            return;
+        }
+        EnvImpl env = store(context).remove(ENV_KEY, EnvImpl.class);
         if (env != null) env.cleanup();
     }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        EnvImpl env = store(context).remove(ENV_KEY, EnvImpl.class);
+        if (env != null) env.cleanup();
+    }
+
+    private ExtensionContext.Store store(ExtensionContext context) {
+        return context.getStore(ExtensionContext.Namespace.create(getClass()));
+    }
+
+    private static boolean isShared(ExtensionContext context) {
+        // Like the other annotations, also found as a meta-annotation and on the enclosing classes of nested classes
+        return context.getTestClass()
+                .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, SharedEnv.class, context.getEnclosingTestClasses()))
+                .isPresent();
+    }
+
+    private static ExtensionContext classContext(ExtensionContext context) {
+        ExtensionContext current = context;
+        while (current.getTestMethod().isPresent()) {
+            current = current.getParent().orElseThrow();
+        }
+        return current;
+    }
 }
@@ -0,0 +1,128 @@
+package net.minestom.testing.extension;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.testing.TimingStats;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A single combination of a {@link ScenarioMatrix}, passed as an argument to each invocation of the test.
+ * The test reads the values of the combination from the cell and records its measurements into it,
+ * which become a row of the results table.
+ *
+ * @since 0.8.0
+ */
+public final class ScenarioCell {
+    private final int players;
+    private final int entities;
+    private final int viewDistance;
+    private final int dispatcherThreads;
+    private final Map<String, Object> results = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    ScenarioCell(int players, int entities, int viewDistance, int dispatcherThreads) {
+        this.players = players;
+        this.entities = entities;
+        this.viewDistance = viewDistance;
+        this.dispatcherThreads = dispatcherThreads;
+    }
+
+    /**
+     * Gets the amount of players of this cell.
+     *
+     * @return the player count
+     */
+    public int players() {
+        return players;
+    }
+
+    /**
+     * Gets the amount of entities of this cell.
+     *
+     * @return the entity count
+     */
+    public int entities() {
+        return entities;
+    }
+
+    /**
+     * Gets the view distance of this cell, which equals the view distance of the running JVM.
+     *
+     * @return the view distance in chunks
+     */
+    public int viewDistance() {
+        return viewDistance;
+    }
+
+    /**
+     * Gets the amount of dispatcher threads of this cell, which equals the dispatcher threads of the running JVM.
+     *
+     * @return the dispatcher thread count
+     */
+    public int dispatcherThreads() {
+        return dispatcherThreads;
+    }
+
+    /**
+     * Records a measured value as a column of this cell's row.
+     *
+     * @param column the name of the column
+     * @param value  the measured value
+     * @return this cell
+     */
+    public ScenarioCell record(String column, Number value) {
+        results.put(column, value);
+        return this;
+    }
+
+    /**
+     * Records the mean, median, 95th and 99th percentile and maximum of measured durations in milliseconds,
+     * as the columns {@code <name>_mean_ms}, {@code <name>_p50_ms} and so on.
+     *
+     * @param name  the prefix of the columns
+     * @param stats the measured durations
+     * @return this cell
+     */
+    public ScenarioCell record(String name, TimingStats stats) {
+        record(name + "_mean_ms", millis(stats.mean()));
+        record(name + "_p50_ms", millis(stats.p50()));
+        record(name + "_p95_ms", millis(stats.p95()));
+        record(name + "_p99_ms", millis(stats.p99()));
+        return record(name + "_max_ms", millis(stats.max()));
+    }
+
+    /**
+     * Checks whether this cell can run in the current JVM, whose view distance and dispatcher threads are fixed.
+     */
+    boolean matchesJvm() {
+        return viewDistance == ServerFlag.CHUNK_VIEW_DISTANCE && dispatcherThreads == ServerFlag.DISPATCHER_THREADS;
+    }
+
+    Map<String, Object> columns() {
+        final Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put("players", players);
+        columns.put("entities", entities);
+        columns.put("viewDistance", viewDistance);
+        columns.put("dispatcherThreads", dispatcherThreads);
+        synchronized (results) {
+            columns.putAll(results);
+        }
+        return columns;
+    }
+
+    boolean hasResults() {
+        return !results.isEmpty();
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return "players=" + players + ", entities=" + entities + ", viewDistance=" + viewDistance
+                + ", dispatcherThreads=" + dispatcherThreads;
+    }
+}
@@ -0,0 +1,86 @@
+package net.minestom.testing.extension;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a {@link org.junit.jupiter.params.ParameterizedTest parameterized test} once for every combination of the
+ * given axes. Each invocation receives a {@link ScenarioCell}, which carries the values of its combination and
+ * records the measured results. Like every test using the {@link MicrotusExtension}, each cell runs in a fresh
+ * environment, or a reset one with {@link SharedEnv}.
+ * <p>
+ * The view distance and the dispatcher threads are read by Minestom once per JVM. Cells which need other values
+ * than the running JVM are not run and only listed in a report entry, run the test again in a fork with
+ * {@code -Dminestom.chunk-view-distance} or {@code -Dminestom.dispatcher-threads} to cover them.
+ * If both axes are empty, the values of the JVM are used. With Gradle, such a fork is a {@code Test} task of its own:
+ *
+ * <pre>
+ * val testViewDistance4 by tasks.registering(Test::class) {
+ *     testClassesDirs = sourceSets.test.get().output.classesDirs
+ *     classpath = sourceSets.test.get().runtimeClasspath
+ *     useJUnitPlatform()
+ *     jvmArgs("-Dminestom.chunk-view-distance=4", "-Dminestom.dispatcher-threads=2")
+ *     filter { includeTestsMatching("*CrowdScenarioTest") }
+ * }
+ * </pre>
+ * <p>
+ * When {@link #results()} is set, the results of all cells are written to that file after the last cell,
+ * as CSV or, for files ending with {@code .json}, as a JSON array. Each JVM writes only the cells it ran,
+ * replacing the file of a previous run. NaN and infinite values are written as strings in JSON.
+ *
+ * <pre>
+ * &#64;ParameterizedTest
+ * &#64;ScenarioMatrix(players = {10, 50, 100}, entities = {0, 500}, results = "build/scenarios/crowd.csv")
+ * void crowd(ScenarioCell cell, Env env) {
+ *     Instance instance = env.createFlatInstance();
+ *     // connect cell.players() players and spawn cell.entities() entities
+ *     cell.record("tick", env.measureViewerCost(players, 20, (player, tick) -> {}).tickTime());
+ * }
+ * </pre>
+ *
+ * @since 0.8.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@ArgumentsSource(ScenarioMatrixProvider.class)
+public @interface ScenarioMatrix {
+
+    /**
+     * The amounts of players to test.
+     *
+     * @return the player counts
+     */
+    int[] players() default {1};
+
+    /**
+     * The amounts of entities to test.
+     *
+     * @return the entity counts
+     */
+    int[] entities() default {0};
+
+    /**
+     * The view distances to test, in chunks. Empty to use the view distance of the JVM.
+     *
+     * @return the view distances
+     */
+    int[] viewDistance() default {};
+
+    /**
+     * The amounts of dispatcher threads to test. Empty to use the dispatcher threads of the JVM.
+     *
+     * @return the dispatcher thread counts
+     */
+    int[] dispatcherThreads() default {};
+
+    /**
+     * The file to write the results of all cells to, relative to the working directory. Empty to not write results.
+     *
+     * @return the path of the results file
+     */
+    String results() default "";
+}
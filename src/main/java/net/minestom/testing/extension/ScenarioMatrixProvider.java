@@ -0,0 +1,132 @@
+package net.minestom.testing.extension;
+
+import net.minestom.server.ServerFlag;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.support.AnnotationBasedArgumentsProvider;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Provides the {@link ScenarioCell cells} of a {@link ScenarioMatrix} and writes their results after the last one.
+ * Cells which need another view distance or other dispatcher threads than the running JVM are not provided,
+ * they are listed in a report entry of the test instead.
+ *
+ * @since 0.8.0
+ */
+public final class ScenarioMatrixProvider extends AnnotationBasedArgumentsProvider<ScenarioMatrix> {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ScenarioMatrixProvider.class);
+
+    @Override
+    protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
+                                                           ScenarioMatrix matrix) {
+        final int[] viewDistances = orDefault(matrix.viewDistance(), ServerFlag.CHUNK_VIEW_DISTANCE);
+        final int[] dispatcherThreads = orDefault(matrix.dispatcherThreads(), ServerFlag.DISPATCHER_THREADS);
+        final List<ScenarioCell> cells = new ArrayList<>();
+        final List<ScenarioCell> skipped = new ArrayList<>();
+        for (int players : matrix.players()) {
+            for (int entities : matrix.entities()) {
+                for (int viewDistance : viewDistances) {
+                    for (int threads : dispatcherThreads) {
+                        final ScenarioCell cell = new ScenarioCell(players, entities, viewDistance, threads);
+                        (cell.matchesJvm() ? cells : skipped).add(cell);
+                    }
+                }
+            }
+        }
+        // Cells the JVM cannot run are left out here, so that no environment is started for them
+        if (!skipped.isEmpty()) {
+            context.publishReportEntry("skippedCells", skipped + " need a JVM started with other minestom flags");
+        }
+        Assumptions.assumeFalse(cells.isEmpty(), "Every cell needs a JVM started with other minestom flags");
+        if (!matrix.results().isEmpty()) {
+            // The store closes the table after the last invocation of the test
+            context.getStore(NAMESPACE).getOrComputeIfAbsent(Table.class, _ -> new Table(Path.of(matrix.results())),
+                    Table.class).cells.addAll(cells);
+        }
+        return cells.stream().map(Arguments::of);
+    }
+
+    private static int[] orDefault(int[] values, int fallback) {
+        return values.length == 0 ? new int[]{fallback} : values;
+    }
+
+    /**
+     * The results of all cells of a test, written to a CSV or JSON file when closed.
+     */
+    private record Table(Path file, List<ScenarioCell> cells) implements AutoCloseable {
+
+        Table(Path file) {
+            this(file, new CopyOnWriteArrayList<>());
+        }
+
+        @Override
+        public void close() {
+            final List<Map<String, Object>> rows = cells.stream()
+                    .filter(ScenarioCell::hasResults)
+                    .map(ScenarioCell::columns)
+                    .toList();
+            final Set<String> columns = new LinkedHashSet<>();
+            rows.forEach(row -> columns.addAll(row.keySet()));
+
+            final String content = file.getFileName().toString().endsWith(".json")
+                    ? json(columns, rows)
+                    : csv(columns, rows);
+            try {
+                final Path parent = file.toAbsolutePath().getParent();
+                if (parent != null) Files.createDirectories(parent);
+                Files.writeString(file, content);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write scenario results to " + file, e);
+            }
+        }
+
+        private static String csv(Set<String> columns, List<Map<String, Object>> rows) {
+            final StringBuilder builder = new StringBuilder(String.join(",", columns)).append('\n');
+            for (Map<String, Object> row : rows) {
+                builder.append(columns.stream()
+                        .map(column -> String.valueOf(row.getOrDefault(column, "")))
+                        .collect(Collectors.joining(","))).append('\n');
+            }
+            return builder.toString();
+        }
+
+        private static String json(Set<String> columns, List<Map<String, Object>> rows) {
+            return rows.stream()
+                    .map(row -> columns.stream()
+                            .filter(row::containsKey)
+                            .map(column -> quote(column) + ": " + jsonNumber(row.get(column)))
+                            .collect(Collectors.joining(", ", "  {", "}")))
+                    .collect(Collectors.joining(",\n", "[\n", "\n]\n"));
+        }
+
+        /**
+         * Writes a number as a JSON number, or as a string for NaN and infinite values, which JSON cannot represent.
+         */
+        private static String jsonNumber(Object value) {
+            final boolean finite = switch (value) {
+                case Double number -> Double.isFinite(number);
+                case Float number -> Float.isFinite(number);
+                default -> true;
+            };
+            return finite ? String.valueOf(value) : quote(String.valueOf(value));
+        }
+
+        private static String quote(String value) {
+            return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.minestom.testing.extension;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Shares one {@link net.minestom.testing.Env} and its server process between all test methods of a class,
+ * similar to {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS}.
+ * <p>
+ * Instead of stopping the process after each test method, the {@link MicrotusExtension} only resets what the
+ * method created: listeners and event collectors are removed, players of its connections are removed and its
+ * instances are unregistered. Everything created in {@code @BeforeAll} methods is kept for the whole class.
+ * The process is stopped after all tests of the class have run.
+ * <p>
+ * The annotation is also found on enclosing classes of {@link org.junit.jupiter.api.Nested nested} test classes
+ * and as a meta-annotation. Each nested class shares an environment of its own.
+ *
+ * <pre>
+ * &#64;SharedEnv
+ * &#64;ExtendWith(MicrotusExtension.class)
+ * class MyTest {
+ *     private static Instance lobby;
+ *
+ *     &#64;BeforeAll
+ *     static void setup(Env env) {
+ *         lobby = env.createFlatInstance();
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 0.8.0
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+public @interface SharedEnv {
+}
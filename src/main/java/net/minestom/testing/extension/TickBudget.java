@@ -0,0 +1,52 @@
+package net.minestom.testing.extension;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces a maximum duration for every tick a test drives through {@link net.minestom.testing.Env#tick()} or
+ * {@link net.minestom.testing.Env#tickWhile(java.util.function.BooleanSupplier, java.time.Duration)}.
+ * <p>
+ * When a tick exceeds the budget the test fails with a breakdown of the slowest instance, chunk and scheduler task.
+ * The time of a chunk includes the entities ticked with it. Only the thread which ticks the process is sampled for
+ * scheduler tasks, so tasks of instance and entity schedulers which run on dispatcher threads are never reported as
+ * the slowest scheduler task, their time counts towards their chunk instead.
+ * An annotation on the test method takes precedence over one on the test class or its enclosing classes.
+ * It may also be used as a meta-annotation.
+ *
+ * <pre>
+ * &#64;TickBudget(20)
+ * &#64;ExtendWith(MicrotusExtension.class)
+ * class MyTest {
+ *     &#64;Test
+ *     void crowdedSpawn(Env env) {
+ *         // every env.tick() must finish within 20 ms
+ *     }
+ * }
+ * </pre>
+ *
+ * @since 0.8.0
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+public @interface TickBudget {
+
+    /**
+     * The maximum duration of a single tick, defaults to the 50 ms of a 20 TPS server.
+     *
+     * @return the budget in {@link #unit()}
+     */
+    long value() default 50;
+
+    /**
+     * The unit of {@link #value()}.
+     *
+     * @return the time unit
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,105 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.anvil.AnvilLoader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A read-only {@link MeasuredChunkLoader} wrapping an {@link AnvilLoader} over a world fixture, such as a directory
+ * checked into the test resources. Saves are ignored, so a fixture can be shared by many tests.
+ * <p>
+ * Chunks are read and decoded by the {@link AnvilLoader}. The loaded bytes reported by the {@link #stats()} are the
+ * stored, compressed sizes of the chunks, which are read once per region file from its header.
+ */
+public final class AnvilFixtureLoader implements MeasuredChunkLoader {
+    private static final int SECTOR_SIZE = 4096;
+    private static final int CHUNKS_PER_REGION = 32 * 32;
+
+    private final Path regionFolder;
+    private final AnvilLoader delegate;
+    private final Map<Path, int[]> storedSizes = new ConcurrentHashMap<>();
+    private final ChunkLoaderStats stats = new ChunkLoaderStats();
+
+    /**
+     * Creates a new loader for the given world directory.
+     *
+     * @param worldFolder the directory containing the {@code region} folder of the fixture
+     */
+    public AnvilFixtureLoader(@NotNull Path worldFolder) {
+        this.regionFolder = worldFolder.resolve("region");
+        this.delegate = new AnvilLoader(worldFolder);
+    }
+
+    @Override
+    public void loadInstance(@NotNull Instance instance) {
+        delegate.loadInstance(instance);
+    }
+
+    @Override
+    public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        final long start = System.nanoTime();
+        final Chunk chunk = delegate.loadChunk(instance, chunkX, chunkZ);
+        final long duration = System.nanoTime() - start;
+        stats.recordLoad(duration, chunk != null ? storedSize(chunkX, chunkZ) : -1);
+        return chunk;
+    }
+
+    @Override
+    public void saveInstance(@NotNull Instance instance) {
+        // Read-only
+    }
+
+    @Override
+    public void saveChunk(@NotNull Chunk chunk) {
+        // Read-only
+    }
+
+    @Override
+    public void unloadChunk(@NotNull Chunk chunk) {
+        delegate.unloadChunk(chunk);
+    }
+
+    @Override
+    public @NotNull ChunkLoaderStats stats() {
+        return stats;
+    }
+
+    private int storedSize(int chunkX, int chunkZ) {
+        final Path file = regionFolder.resolve("r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca");
+        return storedSizes.computeIfAbsent(file, AnvilFixtureLoader::readStoredSizes)[(chunkX & 31) + (chunkZ & 31) * 32];
+    }
+
+    /**
+     * Reads the stored length of every chunk of a region file, which is the first field of its first sector.
+     */
+    private static int[] readStoredSizes(Path file) {
+        final int[] sizes = new int[CHUNKS_PER_REGION];
+        if (!Files.isRegularFile(file)) return sizes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer locations = ByteBuffer.allocate(CHUNKS_PER_REGION * Integer.BYTES);
+            if (channel.read(locations, 0) < locations.capacity()) return sizes;
+            final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                final long offset = (long) (locations.getInt(i * Integer.BYTES) >>> 8) * SECTOR_SIZE;
+                if (offset == 0) continue;
+                length.clear();
+                if (channel.read(length, offset) == Integer.BYTES) sizes[i] = length.getInt(0);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,171 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.TimingStats;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the operations of a {@link MeasuredChunkLoader}. All methods are thread-safe, so loaders which support
+ * parallel loading or saving can record from any thread.
+ */
+public final class ChunkLoaderStats {
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesLoaded = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final Samples loadLatency = new Samples();
+    private final Samples saveLatency = new Samples();
+
+    /**
+     * Estimates the stored size of a chunk as the size of its encoded section data.
+     *
+     * @param chunk the chunk to measure
+     * @return the size in bytes
+     */
+    public static int sizeOf(@NotNull Chunk chunk) {
+        final SendablePacket packet = chunk.getFullDataPacket();
+        if (SendablePacket.extractServerPacket(ConnectionState.PLAY, packet) instanceof ChunkDataPacket data) {
+            return data.chunkData().data().length;
+        }
+        return 0;
+    }
+
+    void recordLoad(long nanos, long bytes) {
+        loads.increment();
+        if (bytes < 0) {
+            misses.increment();
+        } else {
+            bytesLoaded.add(bytes);
+        }
+        loadLatency.add(nanos);
+    }
+
+    void recordSave(long nanos, long bytes) {
+        saves.increment();
+        bytesSaved.add(bytes);
+        saveLatency.add(nanos);
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * Gets the amount of load requests, including the ones which found no stored chunk.
+     *
+     * @return the amount of loads
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /**
+     * Gets the amount of load requests which found no stored chunk, so the chunk had to be generated.
+     *
+     * @return the amount of misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the amount of saved chunks.
+     *
+     * @return the amount of saves
+     */
+    public long saves() {
+        return saves.sum();
+    }
+
+    /**
+     * Gets the amount of loads and saves which failed.
+     *
+     * @return the amount of failures
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Gets the amount of bytes read by all successful loads.
+     *
+     * @return the loaded bytes
+     */
+    public long bytesLoaded() {
+        return bytesLoaded.sum();
+    }
+
+    /**
+     * Gets the amount of bytes written by all saves.
+     *
+     * @return the saved bytes
+     */
+    public long bytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Gets the latency of all loads, including misses.
+     *
+     * @return the load latency
+     */
+    public @NotNull TimingStats loadLatency() {
+        return loadLatency.stats();
+    }
+
+    /**
+     * Gets the latency of all saves.
+     *
+     * @return the save latency
+     */
+    public @NotNull TimingStats saveLatency() {
+        return saveLatency.stats();
+    }
+
+    /**
+     * Resets all counters, for example after warming up the loader.
+     */
+    public void reset() {
+        loads.reset();
+        misses.reset();
+        saves.reset();
+        failures.reset();
+        bytesLoaded.reset();
+        bytesSaved.reset();
+        loadLatency.clear();
+        saveLatency.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkLoaderStats[loads=" + loads() + ", misses=" + misses() + ", saves=" + saves()
+                + ", failures=" + failures() + ", bytesLoaded=" + bytesLoaded() + ", bytesSaved=" + bytesSaved()
+                + ", loadLatency=" + loadLatency() + ", saveLatency=" + saveLatency() + "]";
+    }
+
+    private static final class Samples {
+        private long[] values = new long[64];
+        private int size;
+
+        synchronized void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        synchronized TimingStats stats() {
+            return TimingStats.of(Arrays.copyOf(values, size));
+        }
+
+        synchronized void clear() {
+            size = 0;
+        }
+    }
+}
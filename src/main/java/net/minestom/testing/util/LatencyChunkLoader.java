@@ -0,0 +1,125 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkLoader;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wraps a {@link ChunkLoader} to simulate slow or unreliable storage.
+ * Every load and save is delayed by a fixed latency and fails with the given probability.
+ * Failures are reported by throwing an {@link UncheckedIOException}.
+ * <p>
+ * When chunks are loaded or saved through an {@link Instance}, Minestom hands such a failure to the exception handler
+ * of the server. An {@link net.minestom.testing.Env} queues it and fails the test at its next checkpoint, such as the
+ * cleanup after the test. Tests with a failure rate above 0 must therefore consume the expected failures through
+ * {@link net.minestom.testing.Env#assertNoServerExceptions()}.
+ */
+public final class LatencyChunkLoader implements MeasuredChunkLoader {
+    private final ChunkLoader delegate;
+    private final long readLatency;
+    private final long writeLatency;
+    private final double failureRate;
+    private final Random random;
+    private final ChunkLoaderStats stats = new ChunkLoaderStats();
+
+    /**
+     * Creates a new loader which delays but never fails.
+     *
+     * @param delegate     the loader to wrap
+     * @param readLatency  the delay added to each load
+     * @param writeLatency the delay added to each save
+     */
+    public LatencyChunkLoader(@NotNull ChunkLoader delegate, @NotNull Duration readLatency, @NotNull Duration writeLatency) {
+        this(delegate, readLatency, writeLatency, 0, 0);
+    }
+
+    /**
+     * Creates a new loader.
+     *
+     * @param delegate     the loader to wrap
+     * @param readLatency  the delay added to each load
+     * @param writeLatency the delay added to each save
+     * @param failureRate  the probability between 0 and 1 that an operation fails
+     * @param seed         the seed deciding which operations fail
+     */
+    public LatencyChunkLoader(@NotNull ChunkLoader delegate, @NotNull Duration readLatency, @NotNull Duration writeLatency,
+                              double failureRate, long seed) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1: " + failureRate);
+        }
+        this.delegate = delegate;
+        this.readLatency = readLatency.toNanos();
+        this.writeLatency = writeLatency.toNanos();
+        this.failureRate = failureRate;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void loadInstance(@NotNull Instance instance) {
+        delegate.loadInstance(instance);
+    }
+
+    @Override
+    public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        final long start = System.nanoTime();
+        delay(readLatency, "load", chunkX, chunkZ);
+        final Chunk chunk = delegate.loadChunk(instance, chunkX, chunkZ);
+        stats.recordLoad(System.nanoTime() - start, chunk != null ? ChunkLoaderStats.sizeOf(chunk) : -1);
+        return chunk;
+    }
+
+    @Override
+    public void saveInstance(@NotNull Instance instance) {
+        delegate.saveInstance(instance);
+    }
+
+    @Override
+    public void saveChunk(@NotNull Chunk chunk) {
+        final long start = System.nanoTime();
+        delay(writeLatency, "save", chunk.getChunkX(), chunk.getChunkZ());
+        delegate.saveChunk(chunk);
+        stats.recordSave(System.nanoTime() - start, ChunkLoaderStats.sizeOf(chunk));
+    }
+
+    @Override
+    public void unloadChunk(@NotNull Chunk chunk) {
+        delegate.unloadChunk(chunk);
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return delegate.supportsParallelLoading();
+    }
+
+    @Override
+    public boolean supportsParallelSaving() {
+        return delegate.supportsParallelSaving();
+    }
+
+    @Override
+    public @NotNull ChunkLoaderStats stats() {
+        return stats;
+    }
+
+    private void delay(long latency, String operation, int chunkX, int chunkZ) {
+        if (latency > 0) LockSupport.parkNanos(latency);
+        if (failureRate > 0 && nextFailure()) {
+            stats.recordFailure();
+            throw new UncheckedIOException(new IOException("Injected " + operation + " failure for chunk " + chunkX + ", " + chunkZ));
+        }
+    }
+
+    private boolean nextFailure() {
+        synchronized (random) {
+            return random.nextDouble() < failureRate;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.ChunkLoader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ChunkLoader} which records statistics about its loads and saves.
+ */
+public interface MeasuredChunkLoader extends ChunkLoader {
+
+    /**
+     * Gets the statistics of this loader.
+     *
+     * @return the live statistics, updated by every load and save
+     */
+    @NotNull ChunkLoaderStats stats();
+}
@@ -0,0 +1,87 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MeasuredChunkLoader} which keeps saved chunks in memory, as a fast stand-in for a persistent store.
+ * Saved chunks are copied, so later modifications of the instance do not leak into the store.
+ */
+public final class MemoryChunkLoader implements MeasuredChunkLoader {
+    private final Map<Long, Stored> chunks = new ConcurrentHashMap<>();
+    private final ChunkLoaderStats stats = new ChunkLoaderStats();
+
+    @Override
+    public @Nullable Chunk loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+        final long start = System.nanoTime();
+        final Stored stored = chunks.get(index(chunkX, chunkZ));
+        final Chunk chunk = stored != null ? stored.chunk().copy(instance, chunkX, chunkZ) : null;
+        stats.recordLoad(System.nanoTime() - start, stored != null ? stored.bytes() : -1);
+        return chunk;
+    }
+
+    @Override
+    public void saveChunk(@NotNull Chunk chunk) {
+        final long start = System.nanoTime();
+        final Chunk copy = chunk.copy(chunk.getInstance(), chunk.getChunkX(), chunk.getChunkZ());
+        final long duration = System.nanoTime() - start;
+        // Serializing the chunk to size it is not part of the save
+        final int bytes = ChunkLoaderStats.sizeOf(copy);
+        chunks.put(index(chunk.getChunkX(), chunk.getChunkZ()), new Stored(copy, bytes));
+        stats.recordSave(duration, bytes);
+    }
+
+    @Override
+    public boolean supportsParallelLoading() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsParallelSaving() {
+        return true;
+    }
+
+    /**
+     * Checks whether a chunk has been saved to this loader.
+     *
+     * @param chunkX the chunk x coordinate
+     * @param chunkZ the chunk z coordinate
+     * @return true if the chunk is stored
+     */
+    public boolean contains(int chunkX, int chunkZ) {
+        return chunks.containsKey(index(chunkX, chunkZ));
+    }
+
+    /**
+     * Gets the amount of stored chunks.
+     *
+     * @return the amount of chunks
+     */
+    public int size() {
+        return chunks.size();
+    }
+
+    /**
+     * Removes all stored chunks, the statistics are kept.
+     */
+    public void clear() {
+        chunks.clear();
+    }
+
+    @Override
+    public @NotNull ChunkLoaderStats stats() {
+        return stats;
+    }
+
+    private static long index(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private record Stored(Chunk chunk, int bytes) {
+    }
+}
@@ -0,0 +1,64 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class BlockUpdateIntegrationTest {
+
+    @Test
+    void measureRandomBlockUpdates(Env env) {
+        Instance instance = env.createFlatInstance();
+        Player viewer = env.createPlayer(instance, new Pos(0, 40, 0));
+        BlockWorkload workload = BlockWorkload.random(new Vec(-32, 40, -32), new Vec(32, 50, 32), 20,
+                List.of(Block.STONE, Block.GLASS, Block.DIRT), 42);
+
+        BlockUpdateReport report = env.measureBlockUpdates(instance, List.of(viewer), workload, 5, false);
+
+        assertEquals(100, report.changes());
+        assertEquals(5, report.tickTime().count());
+        assertTrue(report.packets() > 0, "The viewer should be told about the changes");
+    }
+
+    @Test
+    void batchedBlockUpdatesResendChunks(Env env) {
+        Instance instance = env.createFlatInstance();
+        Player viewer = env.createPlayer(instance, new Pos(0, 40, 0));
+        BlockWorkload workload = BlockWorkload.random(new Vec(-32, 40, -32), new Vec(32, 50, 32), 20,
+                List.of(Block.STONE, Block.GLASS, Block.DIRT), 42);
+
+        BlockUpdateReport direct = env.measureBlockUpdates(instance, List.of(viewer), workload, 5, false);
+        BlockUpdateReport batched = env.measureBlockUpdates(instance, List.of(viewer), workload, 5, true);
+
+        assertEquals(direct.changes(), batched.changes());
+        // Direct changes are sent block by block, a batch sends the chunks it changed again instead
+        assertTrue(direct.singleBlockPackets() > 0, "Direct changes should send block change packets");
+        assertEquals(0, direct.chunkResends());
+        assertEquals(0, batched.singleBlockPackets());
+        assertTrue(batched.chunkResends() > 0, "A batch should resend the changed chunks");
+    }
+
+    @Test
+    void workloadIsReproducible() {
+        BlockWorkload workload = BlockWorkload.clustered(new Vec(0, 0, 0), new Vec(64, 64, 64), 10, 2,
+                List.of(Block.STONE), 7);
+        List<Vec> first = new ArrayList<>();
+        List<Vec> second = new ArrayList<>();
+        workload.apply((x, y, z, _) -> first.add(new Vec(x, y, z)), 3);
+        workload.apply((x, y, z, _) -> second.add(new Vec(x, y, z)), 3);
+
+        assertEquals(first, second);
+    }
+}
@@ -0,0 +1,55 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.BroadcastMode;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+@BroadcastMode(BroadcastMode.Mode.GROUPED)
+class BroadcastIntegrationTest {
+
+    @Test
+    void measureBroadcast(Env env) {
+        Instance instance = env.createFlatInstance();
+        List<Player> viewers = List.of(
+                env.createPlayer(instance, new Pos(0, 40, 0)),
+                env.createPlayer(instance, new Pos(2, 40, 0)),
+                env.createPlayer(instance, new Pos(4, 40, 0)));
+
+        BroadcastStats stats = env.measureBroadcast(viewers, 5,
+                (player, tick) -> player.teleport(player.getPosition().add(0, 0, 0.5)));
+
+        assertEquals(5, stats.ticks());
+        assertTrue(stats.packets() > 0, "Viewers should see each other move");
+        assertTrue(stats.bytes() > 0);
+        assertTrue(stats.groupedSends() > 0, "Movement of viewers should be broadcast as grouped packets");
+        assertTrue(stats.groupedPackets() < stats.groupedSends(), "A grouped packet should reach several viewers");
+        assertEquals(stats.packets(), stats.groupedSends() + stats.individualSends());
+    }
+
+    @Test
+    @BroadcastMode(BroadcastMode.Mode.INDIVIDUAL)
+    void measureIndividualBroadcast(Env env) {
+        Instance instance = env.createFlatInstance();
+        List<Player> viewers = List.of(
+                env.createPlayer(instance, new Pos(0, 40, 0)),
+                env.createPlayer(instance, new Pos(2, 40, 0)),
+                env.createPlayer(instance, new Pos(4, 40, 0)));
+
+        BroadcastStats stats = env.measureBroadcast(viewers, 5,
+                (player, tick) -> player.teleport(player.getPosition().add(0, 0, 0.5)));
+
+        assertTrue(stats.packets() > 0, "Viewers should see each other move");
+        assertEquals(0, stats.groupedSends(), "Without grouping, no prepared packet should be shared");
+        assertEquals(stats.packets(), stats.individualSends());
+    }
+}
@@ -0,0 +1,30 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class ChunkStreamingIntegrationTest {
+
+    @Test
+    void queuedChunksAreBatched(Env env) {
+        Instance instance = env.createFlatInstance();
+        Player player = env.createConnection().useChunkQueue(9f).connect(instance, new Pos(0, 40, 0));
+        assertInstanceOf(TestPlayerImpl.class, player);
+
+        ChunkStreamingReport report = env.measureChunkStreaming(player,
+                () -> player.teleport(new Pos(2000, 40, 2000)).join(), 200);
+
+        assertTrue(report.reachedFullView(), "Player should load the full view within 200 ticks");
+        assertFalse(report.batchSizes().isEmpty(), "Chunks should be sent in batches");
+        assertTrue(report.chunksSent() > 0);
+    }
+}
@@ -0,0 +1,46 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class ChurnIntegrationTest {
+
+    @Test
+    void connectionCanReconnect(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        Player first = connection.connect(instance, new Pos(0, 40, 0));
+
+        connection.disconnect();
+        assertFalse(connection.isConnected());
+        assertFalse(first.isOnline());
+
+        Player second = connection.connect(instance, new Pos(0, 40, 0));
+        assertTrue(connection.isConnected());
+        assertNotSame(first, second);
+        assertEquals(instance, second.getInstance());
+    }
+
+    @Test
+    void measureChurn(Env env) {
+        Instance instance = env.createFlatInstance();
+
+        ChurnReport report = env.measureChurn(instance, 20, 2, 3);
+
+        assertEquals(20, report.joins());
+        assertEquals(20, report.login().count());
+        assertTrue(report.joinsPerSecond() > 0);
+        assertTrue(report.heapPerCycle().size() >= 2);
+        assertTrue(env.process().connection().getOnlinePlayers().isEmpty(), "Every churned player should have left");
+    }
+}
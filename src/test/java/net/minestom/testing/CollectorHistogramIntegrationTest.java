@@ -0,0 +1,65 @@
+package net.minestom.testing;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.ActionBarPacket;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@ExtendWith(MicrotusExtension.class)
+class CollectorHistogramIntegrationTest {
+
+    @Test
+    void countByType(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        Player player = connection.connect(instance, new Pos(0, 40, 0));
+        Collector<ServerPacket> onHeap = connection.trackIncoming();
+        Collector<ServerPacket> offHeap = connection.trackIncomingOffHeap(ServerPacket.class);
+
+        for (int i = 0; i < 100; i++) {
+            player.sendMessage(Component.text("message " + i));
+            if (i % 4 == 0) player.sendActionBar(Component.text("bar " + i));
+        }
+
+        for (Collector<ServerPacket> collector : List.of(onHeap, offHeap)) {
+            collector.assertCountOf(SystemChatPacket.class, 100);
+            collector.assertCountOf(ActionBarPacket.class, 25);
+            collector.assertDistribution(Map.of(SystemChatPacket.class, 100L, ActionBarPacket.class, 25L));
+            List<ActionBarPacket> bars = collector.ofType(ActionBarPacket.class);
+            assertEquals(Component.text("bar 96"), bars.getLast().text());
+        }
+
+        // Reading a collector stops it, like collect() does
+        player.sendMessage(Component.text("late message"));
+        onHeap.assertCountOf(SystemChatPacket.class, 100);
+        offHeap.assertCountOf(SystemChatPacket.class, 100);
+    }
+
+    @Test
+    void frozenIndexDropsLateElements() {
+        TypeIndex<Object> index = new TypeIndex<>(true);
+        index.record("a");
+        index.record(1);
+        index.record("b");
+        index.freeze();
+        List<String> strings = index.ofType(String.class);
+
+        assertFalse(index.record("late"));
+        assertEquals(List.of("a", "b"), strings);
+        assertEquals(List.of("a", 1, "b"), index.all());
+        assertEquals(List.of("a", 1, "b"), index.ofType(Object.class));
+        assertEquals(Map.of(String.class, 2L, Integer.class, 1L), index.histogram());
+    }
+}
@@ -0,0 +1,51 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class EntitySpawningIntegrationTest {
+
+    @Test
+    void spawnGrid(Env env) {
+        Instance instance = env.createFlatInstance();
+        List<Entity> entities = env.spawnEntities(instance, EntityType.ZOMBIE, 9,
+                EntityDistribution.grid(new Vec(0, 40, 0), 2));
+
+        assertEquals(9, entities.size());
+        assertEquals(new Pos(4, 40, 4), entities.getLast().getPosition());
+        entities.forEach(entity -> assertEquals(instance, entity.getInstance()));
+    }
+
+    @Test
+    void seededDistributionIsReproducible() {
+        var distribution = EntityDistribution.clustered(new Vec(-50, 40, -50), new Vec(50, 40, 50), 3, 4, 42);
+        assertEquals(distribution.positions(30), distribution.positions(30));
+    }
+
+    @Test
+    void measureViewerCost(Env env) {
+        Instance instance = env.createFlatInstance();
+        env.spawnEntities(instance, EntityType.ZOMBIE, 20,
+                EntityDistribution.uniform(new Vec(-16, 40, -16), new Vec(16, 40, 16), 1));
+        Player viewer = env.createPlayer(instance, new Pos(0, 40, 0));
+
+        ViewerCost cost = env.measureViewerCost(List.of(viewer), 5,
+                (player, tick) -> player.teleport(player.getPosition().add(1, 0, 0)));
+
+        assertEquals(5, cost.tickTime().count());
+        assertTrue(cost.packets() > 0, "Moving viewer should receive packets");
+    }
+}
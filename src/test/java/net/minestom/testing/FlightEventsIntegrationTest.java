@@ -0,0 +1,43 @@
+package net.minestom.testing;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class FlightEventsIntegrationTest {
+
+    @Test
+    void recordsTicksAndConnectPhases(Env env, @TempDir Path directory) throws IOException {
+        Path file = directory.resolve("cyano.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("cyano.EnvTick");
+            recording.enable("cyano.ConnectPhase");
+            recording.start();
+
+            env.createPlayer(env.createFlatInstance());
+            env.tick();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> ticks = events.stream().filter(e -> e.getEventType().getName().equals("cyano.EnvTick")).toList();
+        assertEquals(1, ticks.size());
+        assertEquals("FlightEventsIntegrationTest#recordsTicksAndConnectPhases", ticks.getFirst().getString("scenario"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("cyano.ConnectPhase")
+                && "configuration".equals(e.getString("phase"))));
+    }
+}
@@ -0,0 +1,59 @@
+package net.minestom.testing;
+
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.AssertionFailedError;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class HeapFootprintIntegrationTest {
+
+    @Test
+    void measureRetainedArrays() {
+        HeapFootprint footprint = HeapFootprint.measure(100, () -> new byte[100][64 * 1024]);
+
+        assertTrue(footprint.perObject() >= 60 * 1024, "Each array should retain about 64 KiB");
+        assertThrows(AssertionFailedError.class, () -> footprint.assertPerObjectBelow(1024));
+    }
+
+    @Test
+    void measureEntityFootprint(Env env) {
+        Instance instance = env.createFlatInstance();
+
+        HeapFootprint footprint = env.measureEntityFootprint(instance, EntityType.ZOMBIE, 200);
+
+        assertEquals(200, footprint.count());
+        footprint.assertPerObjectBelow(1024 * 1024);
+        assertTrue(instance.getEntities().isEmpty(), "The entities should be removed after measuring");
+    }
+
+    @Test
+    void measurePlayerFootprint(Env env) {
+        Instance instance = env.createFlatInstance();
+
+        HeapFootprint footprint = env.measurePlayerFootprint(instance, 20);
+
+        assertEquals(20, footprint.count());
+        footprint.assertPerObjectBelow(16 * 1024 * 1024);
+        // The first player, which loads the chunks around the spawn, is disconnected as well
+        assertTrue(env.process().connection().getOnlinePlayers().isEmpty(), "The players should be disconnected after measuring");
+        assertTrue(instance.getPlayers().isEmpty(), "The players should be removed from the instance after measuring");
+    }
+
+    @Test
+    void measureInstanceFootprint(Env env) {
+        int instances = env.process().instance().getInstances().size();
+
+        HeapFootprint footprint = env.measureInstanceFootprint(50);
+
+        assertEquals(50, footprint.count());
+        footprint.assertPerObjectBelow(1024 * 1024);
+        assertEquals(instances, env.process().instance().getInstances().size(), "The instances should be unregistered after measuring");
+    }
+}
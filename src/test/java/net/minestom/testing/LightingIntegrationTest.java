@@ -0,0 +1,37 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.LightingChunk;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class LightingIntegrationTest {
+
+    @Test
+    void measureLighting(Env env) {
+        Instance instance = env.createLitFlatInstance();
+        BlockWorkload roof = BlockWorkload.wholeSection(new Vec(0, 48, 0), new Vec(15, 63, 15), 1,
+                List.of(Block.STONE), 1);
+        BlockWorkload clear = BlockWorkload.wholeSection(new Vec(0, 48, 0), new Vec(15, 63, 15), 1,
+                List.of(Block.AIR), 1);
+
+        LightingReport report = env.measureLighting(instance, 2, roof, clear, 5);
+
+        assertInstanceOf(LightingChunk.class, instance.getChunk(0, 0));
+        assertEquals(25, report.chunks());
+        assertEquals(4096, report.placement().changes());
+        assertTrue(report.chunksLitPerSecond() > 0);
+        assertTrue(report.placement().lightUpdates() + report.placement().chunkResends() > 0,
+                "Covering the sky should update the light of the viewer");
+    }
+}
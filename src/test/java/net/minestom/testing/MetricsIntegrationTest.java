@@ -0,0 +1,45 @@
+package net.minestom.testing;
+
+import net.minestom.server.event.player.PlayerSpawnEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class MetricsIntegrationTest {
+
+    @Test
+    void measurePlayerJoin(Env env) {
+        Instance instance = env.createFlatInstance();
+        MetricsSnapshot delta = env.metrics().measure(() -> {
+            env.createPlayer(instance);
+            env.tick();
+        });
+
+        assertEquals(1, delta.ticks());
+        assertEquals(1, delta.playersConnected());
+        assertTrue(delta.flatChunksGenerated() > 0);
+        assertTrue(delta.chunksSent() > 0);
+        assertEquals(delta.chunksSent(), delta.packetCount(ChunkDataPacket.class));
+        assertEquals(1, delta.eventCount(PlayerSpawnEvent.class));
+    }
+
+    @Test
+    void deltaSubtractsCounters() {
+        var earlier = new MetricsSnapshot(1, 2, 3, 4, 5, Map.of(ChunkDataPacket.class, 4L), Map.of());
+        var later = new MetricsSnapshot(3, 2, 3, 6, 5, Map.of(ChunkDataPacket.class, 6L), Map.of());
+
+        MetricsSnapshot delta = later.delta(earlier);
+        assertEquals(2, delta.ticks());
+        assertEquals(0, delta.chunksLoaded());
+        assertEquals(2, delta.chunksSent());
+        assertEquals(2, delta.packetCount());
+    }
+}
@@ -0,0 +1,34 @@
+package net.minestom.testing;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class MovementIntegrationTest {
+
+    @Test
+    void elytraFlightStreamsChunks(Env env) {
+        Instance instance = env.createFlatInstance();
+        List<Player> players = List.of(
+                env.createPlayer(instance, new Pos(0, 40, 0)),
+                env.createPlayer(instance, new Pos(0, 40, 32)));
+
+        MovementReport report = env.measureMovement(players, MovementPath.elytra(new Vec(1, 0, 0)), 40);
+
+        assertEquals(40, report.ticks());
+        assertTrue(players.getFirst().getPosition().x() > 60, "Players should have moved along the path");
+        assertTrue(report.chunksSent() > 0, "Crossing chunk borders should send new chunks");
+        assertTrue(report.chunksDropped() > 0, "Crossing chunk borders should drop old chunks");
+        assertTrue(report.chunksLoaded() > 0);
+    }
+}
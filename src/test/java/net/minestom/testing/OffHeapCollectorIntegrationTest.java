@@ -0,0 +1,36 @@
+package net.minestom.testing;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MicrotusExtension.class)
+class OffHeapCollectorIntegrationTest {
+
+    @Test
+    void packetsAreDecodedOnRead(Env env) {
+        Instance instance = env.createFlatInstance();
+        TestConnection connection = env.createConnection();
+        Player player = connection.connect(instance, new Pos(0, 40, 0));
+        Collector<SystemChatPacket> onHeap = connection.trackIncoming(SystemChatPacket.class);
+        Collector<SystemChatPacket> offHeap = connection.trackIncomingOffHeap(SystemChatPacket.class);
+
+        for (int i = 0; i < 1000; i++) {
+            player.sendMessage(Component.text("message " + i));
+        }
+
+        offHeap.assertCount(1000);
+        offHeap.assertAnyMatch(packet -> packet.message().equals(Component.text("message 999")));
+        List<SystemChatPacket> expected = onHeap.collect();
+        assertEquals(expected, offHeap.collect());
+    }
+}
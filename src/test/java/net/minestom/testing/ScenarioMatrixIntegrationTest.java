@@ -0,0 +1,86 @@
+package net.minestom.testing;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import net.minestom.testing.extension.ScenarioCell;
+import net.minestom.testing.extension.ScenarioMatrix;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The second view distance and thread count are covered by the testScenarioFork task
+@ExtendWith(MicrotusExtension.class)
+class ScenarioMatrixIntegrationTest {
+    private static final Path CSV_RESULTS = Path.of("build/scenarios/matrix.csv");
+    private static final Path JSON_RESULTS = Path.of("build/scenarios/matrix.json");
+
+    @BeforeAll
+    static void deletePreviousResults() throws IOException {
+        Files.deleteIfExists(CSV_RESULTS);
+        Files.deleteIfExists(JSON_RESULTS);
+    }
+
+    @ParameterizedTest
+    @ScenarioMatrix(players = {1, 3}, entities = {0, 10}, viewDistance = {8, 4}, dispatcherThreads = {1, 2},
+            results = "build/scenarios/matrix.csv")
+    void crowd(ScenarioCell cell, Env env) {
+        Instance instance = env.createFlatInstance();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < cell.players(); i++) {
+            players.add(env.createPlayer(instance, new Pos(i, 40, 0)));
+        }
+        env.spawnEntities(instance, EntityType.ZOMBIE, cell.entities(), EntityDistribution.grid(new Pos(0, 40, 8), 1));
+
+        ViewerCost cost = env.measureViewerCost(players, 5, (_, _) -> {});
+
+        assertEquals(cell.players(), env.process().connection().getOnlinePlayers().size());
+        cell.record("tick", cost.tickTime())
+                .record("packets_per_viewer_tick", cost.packetsPerViewerPerTick());
+    }
+
+    @ParameterizedTest
+    @ScenarioMatrix(players = {1, 2}, results = "build/scenarios/matrix.json")
+    void json(ScenarioCell cell, Env env) {
+        Instance instance = env.createFlatInstance();
+        for (int i = 0; i < cell.players(); i++) {
+            env.createPlayer(instance, new Pos(i, 40, 0));
+        }
+        cell.record("online", env.process().connection().getOnlinePlayers().size())
+                .record("ratio", cell.players() == 1 ? Double.NaN : Double.POSITIVE_INFINITY);
+    }
+
+    @AfterAll
+    static void resultsAreWritten() throws IOException {
+        // The results files are written when the parameterized tests finish, before the class does
+        List<String> csv = Files.readAllLines(CSV_RESULTS);
+        assertEquals(5, csv.size(), String.join("\n", csv));
+        assertTrue(csv.getFirst().startsWith("players,entities,viewDistance,dispatcherThreads,tick_mean_ms,"), csv.getFirst());
+        for (String row : csv.subList(1, csv.size())) {
+            String[] values = row.split(",");
+            assertEquals(String.valueOf(ServerFlag.CHUNK_VIEW_DISTANCE), values[2], row);
+            assertEquals(String.valueOf(ServerFlag.DISPATCHER_THREADS), values[3], row);
+        }
+
+        String json = Files.readString(JSON_RESULTS);
+        String common = "\"entities\": 0, \"viewDistance\": " + ServerFlag.CHUNK_VIEW_DISTANCE
+                + ", \"dispatcherThreads\": " + ServerFlag.DISPATCHER_THREADS;
+        assertEquals("[\n"
+                + "  {\"players\": 1, " + common + ", \"online\": 1, \"ratio\": \"NaN\"},\n"
+                + "  {\"players\": 2, " + common + ", \"online\": 2, \"ratio\": \"Infinity\"}\n"
+                + "]\n", json);
+    }
+}
@@ -0,0 +1,58 @@
+package net.minestom.testing;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.event.Event;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.timer.TaskSchedule;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class ServerExceptionIntegrationTest {
+
+    @Test
+    void exceptionsAreReportedAtCheckpoint(Env env) {
+        Instance instance = env.createFlatInstance();
+        AtomicInteger ticks = new AtomicInteger();
+        AtomicReference<String> thread = new AtomicReference<>();
+        instance.scheduler().buildTask(() -> {
+            ticks.incrementAndGet();
+            thread.set(Thread.currentThread().getName());
+            throw new IllegalStateException("broken task");
+        }).repeat(TaskSchedule.nextTick()).schedule();
+
+        for (int i = 0; i < 3; i++) env.tick();
+        assertEquals(3, ticks.get(), "The task should keep running after throwing");
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, env::assertNoServerExceptions);
+        assertEquals(3, error.getSuppressed().length);
+        assertTrue(error.getMessage().contains("broken task"));
+        for (int tick = 1; tick <= 3; tick++) {
+            String context = "[" + thread.get() + ", tick " + tick + "]";
+            assertTrue(error.getMessage().contains(context), () -> "Expected " + context + " in " + error.getMessage());
+        }
+        env.assertNoServerExceptions();
+    }
+
+    @Test
+    void failFollowupReportsUnexpectedEvent() {
+        Env env = Env.createInstance(MinecraftServer.updateProcess());
+        env.listen(UnexpectedEvent.class).failFollowup();
+        env.process().eventHandler().call(new UnexpectedEvent());
+
+        AssertionFailedError error = assertThrows(AssertionFailedError.class, env::cleanup);
+        assertTrue(error.getMessage().contains("Event UnexpectedEvent was not expected"), error.getMessage());
+    }
+
+    private record UnexpectedEvent() implements Event {
+    }
+}
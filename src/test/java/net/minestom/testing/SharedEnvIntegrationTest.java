@@ -0,0 +1,70 @@
+package net.minestom.testing;
+
+import net.minestom.server.ServerProcess;
+import net.minestom.server.event.player.PlayerTickEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.testing.extension.MicrotusExtension;
+import net.minestom.testing.extension.SharedEnv;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SharedEnv
+@ExtendWith(MicrotusExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SharedEnvIntegrationTest {
+    private static ServerProcess process;
+    private static Instance lobby;
+
+    @BeforeAll
+    static void setup(Env env) {
+        process = env.process();
+        lobby = env.createFlatInstance();
+    }
+
+    @Test
+    @Order(1)
+    void createResources(Env env) {
+        assertSame(process, env.process());
+        env.createPlayer(env.createFlatInstance());
+        env.listen(PlayerTickEvent.class);
+
+        assertEquals(2, env.process().instance().getInstances().size());
+    }
+
+    @Test
+    @Order(2)
+    void resourcesWereReset(Env env) {
+        assertSame(process, env.process());
+        assertEquals(Set.of(lobby), env.process().instance().getInstances());
+        assertTrue(env.process().connection().getOnlinePlayers().isEmpty());
+    }
+
+    @Nested
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    class EnclosedBySharedEnv {
+        private static ServerProcess nestedProcess;
+
+        @Test
+        @Order(1)
+        void rememberProcess(Env env) {
+            nestedProcess = env.process();
+        }
+
+        @Test
+        @Order(2)
+        void processIsShared(Env env) {
+            assertSame(nestedProcess, env.process());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package net.minestom.testing;
+
+import net.minestom.server.timer.TaskSchedule;
+import net.minestom.testing.extension.MicrotusExtension;
+import net.minestom.testing.extension.TickBudget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.AssertionFailedError;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class TickBudgetIntegrationTest {
+
+    @Test
+    @TickBudget(value = 10, unit = TimeUnit.SECONDS)
+    void tickWithinBudget(Env env) {
+        var instance = env.createFlatInstance();
+        env.createPlayer(instance);
+        env.tick();
+    }
+
+    @Test
+    void slowTickFails(Env env) {
+        env.enforceTickBudget(Duration.ofMillis(5));
+        env.process().scheduler().buildTask(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }).delay(TaskSchedule.nextTick()).schedule();
+
+        var error = assertThrows(AssertionFailedError.class, () -> {
+            env.tick();
+            env.tick();
+        });
+        assertTrue(error.getMessage().contains("exceeding the budget"), error.getMessage());
+        assertTrue(error.getMessage().contains("slowest scheduler task: " + getClass().getName() + ".lambda$slowTickFails"),
+                error.getMessage());
+    }
+}
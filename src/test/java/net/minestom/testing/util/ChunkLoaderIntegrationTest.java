@@ -0,0 +1,103 @@
+package net.minestom.testing.util;
+
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.extension.MicrotusExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MicrotusExtension.class)
+class ChunkLoaderIntegrationTest {
+    // The compressed length of the only chunk in the fixture, as stored in its region file
+    private static final int STONE_CHUNK_STORED_SIZE = 150;
+
+    @Test
+    void memoryLoaderRoundTrip(Env env) {
+        MemoryChunkLoader loader = new MemoryChunkLoader();
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0).join();
+        instance.saveChunksToStorage().join();
+
+        assertTrue(loader.contains(0, 0));
+        assertEquals(1, loader.stats().misses());
+        assertTrue(loader.stats().bytesSaved() > 0);
+
+        Instance copy = env.createFlatInstance(loader);
+        copy.loadChunk(0, 0).join();
+        assertEquals(2, loader.stats().loads());
+        assertEquals(1, loader.stats().misses());
+    }
+
+    @Test
+    void latencyLoaderDelays(Env env) {
+        LatencyChunkLoader loader = new LatencyChunkLoader(new MemoryChunkLoader(), Duration.ofMillis(5), Duration.ZERO);
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0).join();
+
+        assertEquals(1, loader.stats().loads());
+        assertTrue(loader.stats().loadLatency().min().compareTo(Duration.ofMillis(5)) >= 0);
+    }
+
+    @Test
+    void latencyLoaderFailsThroughInstance(Env env) {
+        LatencyChunkLoader loader = new LatencyChunkLoader(new MemoryChunkLoader(), Duration.ZERO, Duration.ZERO, 1, 0);
+        Instance instance = env.createFlatInstance(loader);
+        instance.loadChunk(0, 0);
+
+        // The failure reaches the exception handler of the server, and would fail the cleanup unless consumed here
+        AtomicReference<AssertionFailedError> reported = new AtomicReference<>();
+        env.tickWhile(() -> {
+            try {
+                env.assertNoServerExceptions();
+                return true;
+            } catch (AssertionFailedError e) {
+                reported.set(e);
+                return false;
+            }
+        }, Duration.ofSeconds(5));
+
+        assertNotNull(reported.get(), "The injected failure should be reported as a server exception");
+        assertTrue(reported.get().getMessage().contains("Injected load failure for chunk 0, 0"), reported.get().getMessage());
+        assertTrue(loader.stats().failures() >= 1);
+    }
+
+    @Test
+    void anvilFixtureLoads(Env env) throws URISyntaxException {
+        AnvilFixtureLoader loader = new AnvilFixtureLoader(Path.of(getClass().getResource("/fixtures/stone-world").toURI()));
+        Instance instance = env.createEmptyInstance(loader);
+
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
+        assertEquals(1, loader.stats().loads());
+        assertEquals(STONE_CHUNK_STORED_SIZE, loader.stats().bytesLoaded());
+
+        // Neither stored in the region file, nor in an existing region file
+        instance.loadChunk(1, 0).join();
+        instance.loadChunk(40, 40).join();
+        assertEquals(3, loader.stats().loads());
+        assertEquals(2, loader.stats().misses());
+        assertEquals(STONE_CHUNK_STORED_SIZE, loader.stats().bytesLoaded());
+    }
+
+    @Test
+    void latencyLoaderFails(Env env) {
+        LatencyChunkLoader loader = new LatencyChunkLoader(new MemoryChunkLoader(), Duration.ZERO, Duration.ZERO, 1, 0);
+        Instance instance = env.createEmptyInstance();
+        assertThrows(UncheckedIOException.class, () -> loader.loadChunk(instance, 0, 0));
+        assertEquals(1, loader.stats().failures());
+    }
+}